@@ -1,14 +1,38 @@
 import java.io.*;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+import java.lang.management.CompilationMXBean;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
 import java.text.SimpleDateFormat;
 import java.util.concurrent.*;
 import java.util.HashMap;
 import java.util.Map;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
 
 
 public class ImageSortingSystem {
+    private static final int QUERY_LIST_LIMIT = 100;
+    private static final List<DatasetShape> SCALABILITY_WORKLOADS = List.of(DatasetShape.RANDOM, DatasetShape.DUPLICATES);
+    private static final List<String> WORKLOAD_COMPARISON_ALGORITHMS = List.of("QuickSort", "ThreeWayQuickSort");
+
     public static void main(String[] args) {
+        if (args.length > 0) {
+            System.exit(BatchRunner.run(args));
+        }
+
         Scanner scanner = new Scanner(System.in);
         boolean continueProgram = true;
 
@@ -22,6 +46,12 @@ public class ImageSortingSystem {
             System.out.println("6 - Demonstração de ordenação com 1000 dados");
             System.out.println("7 - Comparar execução entre dois conjuntos de dados");
             System.out.println("8 - Testar algoritmo hibrido");
+            System.out.println("9 - Converter arquivo de dados para formato binário");
+            System.out.println("10 - Ordenação externa (arquivos maiores que a memória)");
+            System.out.println("11 - Suíte de benchmarks (resultados em JSON)");
+            System.out.println("12 - Consultar índice de números de área ordenados");
+            System.out.println("13 - Mesclar novo lote de observações em um conjunto ordenado");
+            System.out.println("14 - Consultas de top-K e quantis sem ordenação completa");
             System.out.println("0 - Sair");
 
             int initialChoice = getIntInput(scanner, "Escolha uma opção: ");
@@ -34,6 +64,12 @@ public class ImageSortingSystem {
                 case 6 -> demonstrateSort();
                 case 7 -> compareTwoDatasets(scanner);
                 case 8 -> executeHybridAlgorithm(scanner);
+                case 9 -> convertDatasetToBinary(scanner);
+                case 10 -> executeExternalSort(scanner);
+                case 11 -> executeBenchmarkSuite(scanner);
+                case 12 -> queryRangeIndex(scanner);
+                case 13 -> mergeObservationBatch(scanner);
+                case 14 -> queryOrderStatistics(scanner);
                 case 0 -> continueProgram = false;
                 default -> System.out.println("Opção inválida.");
             }
@@ -48,6 +84,8 @@ public class ImageSortingSystem {
         System.out.println("1 - IntroSort");
         System.out.println("2 - TimSort");
         System.out.println("3 - Dual-Pivot QuickSort");
+        System.out.println("4 - RadixSort");
+        System.out.println("5 - AdaptiveSort (escolhe o algoritmo pela amostra dos dados)");
         System.out.println("0 - Voltar ao menu principal");
 
         int choice = getIntInput(scanner, "Escolha uma opção: ");
@@ -58,27 +96,36 @@ public class ImageSortingSystem {
             case 1 -> hybridAlgorithm = new IntroSort();
             case 2 -> hybridAlgorithm = new TimSort();
             case 3 -> hybridAlgorithm = new DualPivotQuickSort();
+            case 4 -> hybridAlgorithm = new RadixSort();
+            case 5 -> hybridAlgorithm = new AdaptiveSort();
             default -> {
                 System.out.println("Opção inválida.");
                 return;
             }
         }
 
-        String[] data = handleInternalData(scanner);
-        if (data == null) return;
+        LoadedData loaded = handleInternalData(scanner);
+        if (loaded == null) return;
+        RecordStore data = loaded.data;
 
         AtomicBoolean cancelFlag = new AtomicBoolean(false);
-        Statistics stats = new Statistics();
+        Statistics stats = new CountingStatistics();
 
-        System.out.println("\nExecutando " + hybridAlgorithm.getClass().getSimpleName() + "...");
-        ProgressUtils.initializeProgress(hybridAlgorithm.getClass().getSimpleName());
+        String algorithmName = hybridAlgorithm.getClass().getSimpleName();
+        System.out.println("\nExecutando " + algorithmName + "...");
+        ProgressUtils.initializeProgress(algorithmName);
 
         double time = Timer.measureTimeMs(() -> hybridAlgorithm.sort(data, cancelFlag, stats));
+        ProgressUtils.displayProgress(algorithmName, data.size(), data.size());
+        FileUtils.saveArrayToFile(data.records(), algorithmName);
 
         System.out.println("\nOrdenação concluída.");
         System.out.printf("Tempo de execução: %.2f ms\n", time);
         System.out.printf("Comparações: %d\n", stats.getComparisons());
         System.out.printf("Trocas: %d\n", stats.getSwaps());
+        if (hybridAlgorithm instanceof AdaptiveSort adaptiveSort) {
+            System.out.println(adaptiveSort.describeLastDecision());
+        }
 
         saveDetailedReport(hybridAlgorithm, stats, time);
     }
@@ -93,6 +140,9 @@ public class ImageSortingSystem {
             writer.printf("Tempo de execução: %.2f ms\n", time);
             writer.printf("Comparações: %d\n", stats.getComparisons());
             writer.printf("Trocas: %d\n", stats.getSwaps());
+            if (algorithm instanceof AdaptiveSort adaptiveSort) {
+                writer.println(adaptiveSort.describeLastDecision());
+            }
             writer.println("Relatório salvo em: " + reportFile.getAbsolutePath());
             System.out.println("Relatório detalhado salvo em: " + reportFile.getAbsolutePath());
         } catch (IOException e) {
@@ -105,11 +155,11 @@ public class ImageSortingSystem {
         System.out.println("\n--- Comparação entre Dois Conjuntos de Dados ---");
 
 
-        String[] data1 = selectDataSource(scanner, "Primeiro");
+        RecordStore data1 = selectDataSource(scanner, "Primeiro");
         if (data1 == null) return;
 
 
-        String[] data2 = selectDataSource(scanner, "Segundo");
+        RecordStore data2 = selectDataSource(scanner, "Segundo");
         if (data2 == null) return;
 
 
@@ -117,6 +167,7 @@ public class ImageSortingSystem {
         System.out.println("1 - QuickSort");
         System.out.println("2 - MergeSort");
         System.out.println("3 - HeapSort");
+        System.out.println("4 - RadixSort");
         int algorithmChoice = getIntInput(scanner, "Escolha uma opção: ");
 
         SortingAlgorithm algorithm;
@@ -130,6 +181,9 @@ public class ImageSortingSystem {
             case 3:
                 algorithm = new HeapSort();
                 break;
+            case 4:
+                algorithm = new RadixSort();
+                break;
             default:
                 System.out.println("Opção inválida. Operação cancelada.");
                 return;
@@ -137,8 +191,8 @@ public class ImageSortingSystem {
 
 
         AtomicBoolean cancelFlag = new AtomicBoolean(false);
-        Statistics stats1 = new Statistics();
-        Statistics stats2 = new Statistics();
+        Statistics stats1 = new CountingStatistics();
+        Statistics stats2 = new CountingStatistics();
 
         System.out.println("\nExecutando ordenação no primeiro conjunto de dados...");
         double time1 = Timer.measureTimeMs(() -> algorithm.sort(data1, cancelFlag, stats1));
@@ -154,10 +208,10 @@ public class ImageSortingSystem {
 
     private static void demonstrateSort() {
         System.out.println("\n--- Demonstração de Ordenação (1000 Dados) ---");
-        String[] data = DataLoader.generateRandomData(1000);
+        RecordStore data = DataLoader.generateRandomData(1000);
         AtomicBoolean cancelFlag = new AtomicBoolean(false);
-        Statistics stats = new Statistics();
-        SortingAlgorithm algorithm = new QuickSort(true);
+        Statistics stats = new CountingStatistics();
+        SortingAlgorithm algorithm = new TracingQuickSort();
 
         System.out.println("Executando ordenação QuickSort com feedback em tempo real:");
         algorithm.sort(data, cancelFlag, stats);
@@ -165,8 +219,8 @@ public class ImageSortingSystem {
         System.out.println("\nOrdenação concluída.");
         System.out.printf("Comparações totais: %d, Trocas totais: %d\n", stats.getComparisons(), stats.getSwaps());
         System.out.println("Dados ordenados:");
-        for (String value : data) {
-            System.out.print(value + " ");
+        for (long record : data.records()) {
+            System.out.print(RecordStore.format(record) + " ");
         }
         System.out.println("\n");
     }
@@ -175,25 +229,27 @@ public class ImageSortingSystem {
         return percentages.values().stream().mapToInt(Integer::intValue).sum() != 100;
     }
 
-    private static String[] selectDataSource(Scanner scanner, String datasetLabel) {
+    private static RecordStore selectDataSource(Scanner scanner, String datasetLabel) {
         System.out.printf("\nSelecione a fonte para o %s conjunto de dados:\n", datasetLabel);
         System.out.println("1 - Dados de um arquivo");
         System.out.println("2 - Dados gerados internamente");
         int choice = getIntInput(scanner, "Escolha uma opção: ");
 
+        LoadedData loaded;
         if (choice == 1) {
             try {
-                return handleExternalData(scanner);
+                loaded = handleExternalData(scanner);
             } catch (IOException e) {
                 System.out.println("Erro ao carregar o arquivo: " + e.getMessage());
                 return null;
             }
         } else if (choice == 2) {
-            return handleInternalData(scanner);
+            loaded = handleInternalData(scanner);
         } else {
             System.out.println("Opção inválida.");
             return null;
         }
+        return loaded != null ? loaded.data : null;
     }
 
     private static void displayComparisonResults(double time1, Statistics stats1, double time2, Statistics stats2) {
@@ -250,6 +306,7 @@ public class ImageSortingSystem {
             System.out.println("O valor excede o limite. Tente novamente.");
             return;
         }
+        long seed = getSeedInput(scanner);
 
 
         Map<String, Integer> statePercentages = new HashMap<>();
@@ -275,22 +332,22 @@ public class ImageSortingSystem {
         }
 
 
-        String[] data = DataLoader.generateComplexData(size, statePercentages, statusPercentages);
+        RecordStore data = DataLoader.generateComplexData(size, statePercentages, statusPercentages, seed);
 
 
         switch (orderChoice) {
-            case 1 -> shuffleData(data);
+            case 1 -> shuffleData(data, seed);
             case 2 -> partiallySortData(data);
             case 3 -> {
                 MergeSort mergeSort = new MergeSort();
-                mergeSort.sort(data, new AtomicBoolean(false), new Statistics());
+                mergeSort.sort(data, new AtomicBoolean(false), NoOpStatistics.INSTANCE);
             }
             default -> System.out.println("Opção inválida para ordenação. Dados serão gerados de forma não ordenada.");
         }
 
         try {
             DataLoader.saveDataToFile(fileName, data);
-            System.out.println("Arquivo de dados complexos gerado com sucesso.");
+            System.out.println("Arquivo de dados complexos gerado com sucesso (semente " + seed + ").");
         } catch (IOException e) {
             System.out.println("Erro ao salvar o arquivo: " + e.getMessage());
         }
@@ -298,25 +355,95 @@ public class ImageSortingSystem {
 
 
 
-    private static void shuffleData(String[] data) {
-        List<String> dataList = Arrays.asList(data);
-        Collections.shuffle(dataList);
-        dataList.toArray(data);
+    private static void executeBenchmarkSuite(Scanner scanner) {
+        System.out.println("\n--- Suíte de Benchmarks ---");
+        System.out.println("Cada combinação de algoritmo, tamanho e formato roda em uma JVM separada, com aquecimento antes das medições.");
+        System.out.println("Algoritmos disponíveis: " + String.join(", ", BenchmarkSuite.ALGORITHMS.keySet()));
+
+        List<String> algorithms = readList(scanner, "Algoritmos (separados por vírgula, Enter para todos): ", new ArrayList<>(BenchmarkSuite.ALGORITHMS.keySet()));
+        for (String algorithm : algorithms) {
+            if (!BenchmarkSuite.ALGORITHMS.containsKey(algorithm)) {
+                System.out.println("Algoritmo desconhecido: " + algorithm);
+                return;
+            }
+        }
+
+        List<Integer> sizes = new ArrayList<>();
+        List<DatasetShape> shapes = new ArrayList<>();
+        try {
+            for (String size : readList(scanner, "Tamanhos (separados por vírgula, Enter para 10000,100000,1000000): ", List.of("10000", "100000", "1000000"))) {
+                sizes.add(Integer.parseInt(size));
+            }
+            for (String shape : readList(scanner, "Formatos (" + DatasetShape.labels() + "; Enter para todos): ", DatasetShape.labelList())) {
+                shapes.add(DatasetShape.fromLabel(shape));
+            }
+        } catch (IllegalArgumentException e) {
+            System.out.println("Entrada inválida: " + e.getMessage());
+            return;
+        }
+
+        int warmupIterations = getIntInput(scanner, "Iterações de aquecimento (ex.: 5): ");
+        int measurementIterations = getIntInput(scanner, "Iterações medidas (ex.: 10): ");
+        int forks = getIntInput(scanner, "JVMs por combinação (ex.: 1): ");
+        if (warmupIterations < 0 || measurementIterations <= 0 || forks <= 0 || sizes.stream().anyMatch(size -> size <= 0)) {
+            System.out.println("Valores inválidos. Operação cancelada.");
+            return;
+        }
+        long seed = getSeedInput(scanner);
+
+        BenchmarkSuite suite = new BenchmarkSuite(algorithms, sizes, shapes, warmupIterations, measurementIterations, forks, seed);
+        try {
+            List<BenchmarkSuite.Result> results = suite.run();
+            File outputFolder = new File("output_data");
+            if (!outputFolder.exists() && !outputFolder.mkdir()) {
+                System.out.println("Falha ao criar a pasta output_data.");
+                return;
+            }
+            String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
+            File resultFile = new File(outputFolder, "benchmark_" + timestamp + ".json");
+            BenchmarkSuite.writeJson(results, resultFile);
+            System.out.println("Resultados salvos em: " + resultFile.getAbsolutePath());
+        } catch (IOException e) {
+            System.out.println("Erro na suíte de benchmarks: " + e.getMessage());
+        } catch (InterruptedException e) {
+            System.out.println("Suíte de benchmarks interrompida: " + e.getMessage());
+            Thread.currentThread().interrupt();
+        }
     }
 
+    private static List<String> readList(Scanner scanner, String prompt, List<String> defaults) {
+        System.out.print(prompt);
+        String input = scanner.nextLine().trim();
+        if (input.isEmpty()) {
+            return defaults;
+        }
+        List<String> values = new ArrayList<>();
+        for (String value : input.split(",")) {
+            if (!value.isBlank()) values.add(value.trim());
+        }
+        return values;
+    }
 
-    private static void partiallySortData(String[] data) {
-        int partitionSize = data.length / 5;
-        for (int i = 0; i < data.length; i += partitionSize) {
-            int end = Math.min(i + partitionSize, data.length);
-            Arrays.sort(data, i, end);
+    private static void shuffleData(RecordStore data, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        long[] records = data.records();
+        for (int i = records.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            long temp = records[i];
+            records[i] = records[j];
+            records[j] = temp;
         }
     }
 
 
+    private static void partiallySortData(RecordStore data) {
+        DatasetShape.PARTIALLY_SORTED.apply(data.records());
+    }
+
+
 
     private static void explainProgram() {
-        System.out.println("\nEste programa é um sistema de ordenação de dados que oferece diversas funcionalidades para trabalhar com diferentes algoritmos de ordenação, incluindo QuickSort, MergeSort e HeapSort.");
+        System.out.println("\nEste programa é um sistema de ordenação de dados que oferece diversas funcionalidades para trabalhar com diferentes algoritmos de ordenação, incluindo QuickSort, MergeSort, HeapSort e RadixSort.");
         System.out.println("Os usuários podem escolher entre carregar dados externos de um arquivo ou gerar dados aleatórios internamente, possibilitando a criação de amostras personalizadas para análise.");
         System.out.println("Além da ordenação, o programa calcula e exibe métricas de desempenho detalhadas, como tempo médio de execução, desvio padrão, número de comparações e trocas realizadas por cada algoritmo.");
         System.out.println("Os resultados de desempenho são salvos em um arquivo de relatório para consulta e análise futura.");
@@ -337,26 +464,364 @@ public class ImageSortingSystem {
         }
     }
 
+    private static int getIntInput(Scanner scanner, String prompt, int defaultValue) {
+        while (true) {
+            System.out.print(prompt);
+            String input = scanner.nextLine().trim();
+            if (input.isEmpty()) {
+                return defaultValue;
+            }
+            try {
+                return Integer.parseInt(input);
+            } catch (NumberFormatException e) {
+                System.out.println("Entrada inválida. Por favor, insira um número.");
+            }
+        }
+    }
+
+    private static long getSeedInput(Scanner scanner) {
+        while (true) {
+            System.out.print("Semente para geração (Enter para aleatória): ");
+            String input = scanner.nextLine().trim();
+            if (input.isEmpty()) {
+                return DataLoader.newSeed();
+            }
+            try {
+                return Long.parseLong(input);
+            } catch (NumberFormatException e) {
+                System.out.println("Entrada inválida. Por favor, insira um número.");
+            }
+        }
+    }
+
     private static void generateTestDataFile(Scanner scanner) {
         System.out.print("\nInforme o nome para o arquivo de dados de teste: ");
         String fileName = scanner.nextLine().trim();
 
-        int size = getIntInput(scanner, "Digite o número de elementos para o arquivo (máximo 10.000.000): ");
-        if (size > 10_000_000) {
-            System.out.println("O valor excede o limite. Tente novamente.");
+        int size = getIntInput(scanner, "Digite o número de elementos para o arquivo (acima de 10.000.000 use a ordenação externa): ");
+        if (size <= 0) {
+            System.out.println("O valor deve ser positivo. Tente novamente.");
             return;
         }
+        long seed = getSeedInput(scanner);
 
         System.out.println("Gerando dados aleatórios e salvando no arquivo...");
-        String[] data = DataLoader.generateRandomData(size);
         try {
-            DataLoader.saveDataToFile(fileName, data);
-            System.out.println("Arquivo de dados gerado com sucesso.");
+            DataLoader.generateRandomDataToFile(fileName, size, seed);
+            System.out.println("Arquivo de dados gerado com sucesso (semente " + seed + ").");
         } catch (IOException e) {
             System.out.println("Erro ao salvar o arquivo: " + e.getMessage());
         }
     }
 
+    private static void convertDatasetToBinary(Scanner scanner) {
+        System.out.print("\nInforme o nome do arquivo de texto a ser convertido: ");
+        String sourceName = scanner.nextLine().trim();
+        if (!new File(sourceName).exists()) {
+            System.out.println("O arquivo não existe.");
+            return;
+        }
+
+        String defaultTarget = sourceName.replaceFirst("\\.[^.\\\\/]*$", "") + BinaryDataset.EXTENSION;
+        System.out.print("Informe o nome do arquivo binário (Enter para " + defaultTarget + "): ");
+        String targetName = scanner.nextLine().trim();
+        if (targetName.isEmpty()) {
+            targetName = defaultTarget;
+        }
+
+        try {
+            String target = targetName;
+            double time = Timer.measureTimeMs(() -> {
+                try {
+                    BinaryDataset.convertTextFile(sourceName, target);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            System.out.printf("Conversão concluída em %.2f ms: %s (%d bytes) -> %s (%d bytes)\n",
+                    time, sourceName, new File(sourceName).length(), target, new File(target).length());
+        } catch (UncheckedIOException e) {
+            System.out.println("Erro ao converter o arquivo: " + e.getCause().getMessage());
+        }
+    }
+
+    private static void queryRangeIndex(Scanner scanner) {
+        System.out.println("\n--- Consulta por Números de Área ---");
+        System.out.print("Informe o arquivo de índice (" + RangeIndex.EXTENSION + ") ou de dados ordenados: ");
+        String fileName = scanner.nextLine().trim();
+        if (!new File(fileName).exists()) {
+            System.out.println("O arquivo não existe.");
+            return;
+        }
+
+        RangeIndex index;
+        try {
+            if (fileName.endsWith(RangeIndex.EXTENSION)) {
+                index = RangeIndex.load(Path.of(fileName));
+            } else {
+                RecordStore data = DataLoader.loadDataFromFile(fileName);
+                if (!StateCatalog.isSortedByArea(data)) {
+                    System.out.println("Os dados não estão ordenados. Ordenando antes de indexar...");
+                    Arrays.parallelSort(data.records());
+                }
+                index = RangeIndex.build(data);
+                Path indexFile = RangeIndex.indexPathFor(Path.of(fileName));
+                index.save(indexFile);
+                System.out.println("Índice salvo em: " + indexFile.toAbsolutePath());
+            }
+        } catch (IOException e) {
+            System.out.println("Erro ao carregar o índice: " + e.getMessage());
+            return;
+        }
+        System.out.println("Índice carregado com " + index.size() + " registros.");
+
+        while (true) {
+            System.out.println("\n1 - Buscar um número de área");
+            System.out.println("2 - Contar e listar por intervalo de números");
+            System.out.println("3 - Contar por intervalo e status");
+            System.out.println("4 - Totais por estado");
+            System.out.println("0 - Voltar ao menu principal");
+
+            switch (getIntInput(scanner, "Escolha uma opção: ")) {
+                case 1 -> {
+                    int areaNumber = getIntInput(scanner, "Número de área: ");
+                    long[] found = index.lookup(areaNumber);
+                    if (found.length == 0) {
+                        System.out.println("Número " + areaNumber + " não encontrado.");
+                    } else {
+                        System.out.println("Encontrado: " + new RecordStore(found));
+                    }
+                }
+                case 2 -> {
+                    int from = getIntInput(scanner, "Número inicial: ");
+                    int to = getIntInput(scanner, "Número final: ");
+                    long[] found = index.list(from, to);
+                    System.out.println("Registros no intervalo: " + found.length);
+                    int shown = Math.min(found.length, QUERY_LIST_LIMIT);
+                    if (shown > 0) {
+                        System.out.println(new RecordStore(found).toString(0, shown) + (shown < found.length ? " ... (mais " + (found.length - shown) + ")" : ""));
+                    }
+                }
+                case 3 -> {
+                    int from = getIntInput(scanner, "Número inicial: ");
+                    int to = getIntInput(scanner, "Número final: ");
+                    for (int status = 1; status < StateCatalog.STATUS_NAMES.length; status++) {
+                        System.out.printf("%s: %d\n", StateCatalog.STATUS_NAMES[status], index.count(from, to, status));
+                    }
+                    System.out.printf("%s: %d\n", StateCatalog.STATUS_NAMES[0], index.count(from, to, 0));
+                }
+                case 4 -> {
+                    for (int state = 0; state < StateCatalog.STATE_NAMES.length; state++) {
+                        System.out.printf("Estado: %s - Total: %d (Preservado: %d, Queimado: %d, Desmatado: %d)\n", StateCatalog.STATE_NAMES[state],
+                                index.stateTotal(state), index.stateTotal(state, 1), index.stateTotal(state, 2), index.stateTotal(state, 3));
+                    }
+                }
+                case 0 -> {
+                    return;
+                }
+                default -> System.out.println("Opção inválida.");
+            }
+        }
+    }
+
+    private static void mergeObservationBatch(Scanner scanner) {
+        System.out.println("\n--- Mesclagem Incremental ---");
+        System.out.print("Informe o arquivo do conjunto ordenado: ");
+        String sortedFile = scanner.nextLine().trim();
+        System.out.print("Informe o arquivo do novo lote: ");
+        String batchFile = scanner.nextLine().trim();
+        if (!new File(sortedFile).exists() || !new File(batchFile).exists()) {
+            System.out.println("O arquivo não existe.");
+            return;
+        }
+        System.out.print("Informe o arquivo de saída (.txt ou .bin): ");
+        String outputFile = scanner.nextLine().trim();
+        if (outputFile.isEmpty() || new File(outputFile).getAbsoluteFile().equals(new File(sortedFile).getAbsoluteFile())) {
+            System.out.println("O arquivo de saída deve ser diferente do conjunto ordenado.");
+            return;
+        }
+
+        System.out.println("\nNúmeros de área repetidos:");
+        System.out.println("1 - O status mais recente prevalece");
+        System.out.println("2 - Manter todos os registros");
+        IncrementalMerger.Policy policy = getIntInput(scanner, "Escolha uma opção: ") == 2 ? IncrementalMerger.Policy.KEEP_ALL : IncrementalMerger.Policy.LATEST_STATUS_WINS;
+
+        System.out.println("\n1 - Em memória");
+        System.out.println("2 - Streaming entre arquivos (apenas o lote fica em memória)");
+        boolean streaming = getIntInput(scanner, "Escolha uma opção: ") == 2;
+
+        IncrementalMerger merger = new IncrementalMerger(policy);
+        Statistics stats = new CountingStatistics();
+        try {
+            long startTime = System.nanoTime();
+            long written;
+            if (streaming) {
+                written = merger.mergeFiles(sortedFile, batchFile, outputFile, new AtomicBoolean(false), stats);
+            } else {
+                RecordStore merged = merger.merge(DataLoader.loadDataFromFile(sortedFile), DataLoader.loadDataFromFile(batchFile), new AtomicBoolean(false), stats);
+                DataLoader.saveDataToFile(outputFile, merged);
+                written = merged.size();
+            }
+            double time = (System.nanoTime() - startTime) / 1_000_000.0;
+
+            System.out.println("\nMesclagem concluída.");
+            System.out.printf("Registros gravados: %d\n", written);
+            System.out.printf("Novos números de área: %d\n", merger.getInsertedCount());
+            System.out.printf("Registros substituídos: %d\n", merger.getUpdatedCount());
+            System.out.printf("Tempo de execução: %.2f ms\n", time);
+            System.out.println("Arquivo mesclado salvo em: " + new File(outputFile).getAbsolutePath());
+        } catch (IllegalArgumentException | IOException e) {
+            System.out.println("Erro na mesclagem: " + e.getMessage());
+        }
+    }
+
+    private static void queryOrderStatistics(Scanner scanner) {
+        System.out.println("\n--- Consultas de Ordem ---");
+        System.out.println("1 - Dados externos (de um arquivo)");
+        System.out.println("2 - Dados internos (aleatórios)");
+        System.out.println("0 - Voltar ao menu principal");
+        int choice = getIntInput(scanner, "Escolha uma opção: ");
+        if (choice == 0) return;
+
+        LoadedData loaded;
+        try {
+            loaded = choice == 1 ? handleExternalData(scanner) : handleInternalData(scanner);
+        } catch (IOException e) {
+            System.out.println("Erro ao carregar o arquivo: " + e.getMessage());
+            return;
+        }
+        if (loaded == null) return;
+        RecordStore data = loaded.data;
+
+        System.out.println("\nFiltrar por estado:");
+        System.out.println("0 - Todos");
+        for (int state = 0; state < StateCatalog.STATE_NAMES.length; state++) {
+            System.out.println((state + 1) + " - " + StateCatalog.STATE_NAMES[state]);
+        }
+        int state = getIntInput(scanner, "Escolha uma opção: ") - 1;
+        System.out.println("\nFiltrar por status:");
+        System.out.println("0 - Todos");
+        for (int status = 1; status < StateCatalog.STATUS_NAMES.length; status++) {
+            System.out.println(status + " - " + StateCatalog.STATUS_NAMES[status]);
+        }
+        int status = getIntInput(scanner, "Escolha uma opção: ");
+        if (state < -1 || state >= StateCatalog.STATE_NAMES.length || status < 0 || status >= StateCatalog.STATUS_NAMES.length) {
+            System.out.println("Opção inválida.");
+            return;
+        }
+        if (status == 0) status = Selector.ANY;
+
+        long[] filtered = Selector.filter(data, state, status);
+        System.out.println("Registros após o filtro: " + filtered.length);
+        if (filtered.length == 0) return;
+
+        Selector selector = new Selector(new AtomicBoolean(false), NoOpStatistics.INSTANCE);
+        while (true) {
+            System.out.println("\n1 - K-ésimo menor número de área");
+            System.out.println("2 - Os K maiores números de área");
+            System.out.println("3 - Quantis");
+            System.out.println("4 - Mediana por estado");
+            System.out.println("0 - Voltar ao menu principal");
+
+            switch (getIntInput(scanner, "Escolha uma opção: ")) {
+                case 1 -> {
+                    int k = getIntInput(scanner, "Posição K (1 a " + filtered.length + "): ");
+                    if (k < 1 || k > filtered.length) {
+                        System.out.println("Posição inválida.");
+                        continue;
+                    }
+                    long record = selector.select(filtered, k - 1);
+                    System.out.println(k + "º menor: " + RecordStore.format(record));
+                }
+                case 2 -> {
+                    int k = getIntInput(scanner, "Quantidade K: ");
+                    long[] top = selector.topK(filtered, k);
+                    int shown = Math.min(top.length, QUERY_LIST_LIMIT);
+                    System.out.println("Maiores " + top.length + ": " + new RecordStore(top).toString(0, shown) + (shown < top.length ? " ... (mais " + (top.length - shown) + ")" : ""));
+                }
+                case 3 -> {
+                    System.out.print("Quantis separados por vírgula (ex.: 0.25,0.5,0.75): ");
+                    try {
+                        double[] fractions = Arrays.stream(scanner.nextLine().split(",")).map(String::trim).mapToDouble(Double::parseDouble).toArray();
+                        long[] values = selector.quantiles(filtered, fractions);
+                        for (int i = 0; i < fractions.length; i++) {
+                            System.out.printf("Quantil %.2f: %s\n", fractions[i], RecordStore.format(values[i]));
+                        }
+                    } catch (IllegalArgumentException e) {
+                        System.out.println("Entrada inválida: " + e.getMessage());
+                    }
+                }
+                case 4 -> {
+                    for (int s = 0; s < StateCatalog.STATE_NAMES.length; s++) {
+                        long[] stateRecords = Selector.filter(data, s, status);
+                        String median = stateRecords.length == 0 ? "sem registros" : RecordStore.format(selector.quantiles(stateRecords, 0.5)[0]);
+                        System.out.printf("Estado: %s - Mediana: %s (%d registros)\n", StateCatalog.STATE_NAMES[s], median, stateRecords.length);
+                    }
+                }
+                case 0 -> {
+                    return;
+                }
+                default -> System.out.println("Opção inválida.");
+            }
+        }
+    }
+
+    private static void executeExternalSort(Scanner scanner) {
+        System.out.println("\n--- Ordenação Externa ---");
+        System.out.print("Informe o arquivo de entrada: ");
+        String inputFile = scanner.nextLine().trim();
+        if (!new File(inputFile).exists()) {
+            System.out.println("O arquivo não existe.");
+            return;
+        }
+
+        System.out.print("Informe o arquivo de saída (.txt ou .bin): ");
+        String outputFile = scanner.nextLine().trim();
+
+        int memoryBudgetMb = getIntInput(scanner, "Orçamento de memória em MB (ex.: 256): ");
+        int runSize = getIntInput(scanner, "Tamanho de cada run em registros (0 para automático): ");
+        if (memoryBudgetMb <= 0 || runSize < 0) {
+            System.out.println("Valores inválidos. Operação cancelada.");
+            return;
+        }
+
+        System.out.println("\nEscolha o algoritmo para ordenar cada run:");
+        System.out.println("1 - RadixSort");
+        System.out.println("2 - MergeSort");
+        System.out.println("3 - QuickSort");
+        System.out.println("4 - HeapSort");
+        SortingAlgorithm algorithm;
+        switch (getIntInput(scanner, "Escolha uma opção: ")) {
+            case 1 -> algorithm = new RadixSort();
+            case 2 -> algorithm = new MergeSort();
+            case 3 -> algorithm = new QuickSort();
+            case 4 -> algorithm = new HeapSort();
+            default -> {
+                System.out.println("Opção inválida. Operação cancelada.");
+                return;
+            }
+        }
+
+        ExternalSorter sorter = new ExternalSorter(algorithm, memoryBudgetMb * 1024L * 1024L, runSize);
+        Statistics stats = new CountingStatistics();
+        try {
+            long startTime = System.nanoTime();
+            sorter.sort(inputFile, outputFile, new AtomicBoolean(false), stats);
+            double time = (System.nanoTime() - startTime) / 1_000_000.0;
+
+            System.out.println("\nOrdenação externa concluída.");
+            System.out.printf("Registros: %d\n", sorter.getRecordCount());
+            System.out.printf("Runs gerados: %d (até %d registros cada)\n", sorter.getRunCount(), sorter.getEffectiveRunSize());
+            System.out.printf("Passagens de intercalação: %d\n", sorter.getMergePasses());
+            System.out.printf("Tempo de execução: %.2f ms\n", time);
+            System.out.printf("Comparações: %d\n", stats.getComparisons());
+            System.out.printf("Trocas: %d\n", stats.getSwaps());
+            System.out.println("Arquivo ordenado salvo em: " + new File(outputFile).getAbsolutePath());
+        } catch (IOException e) {
+            System.out.println("Erro na ordenação externa: " + e.getMessage());
+        }
+    }
+
     private static void executeSortingProgram(Scanner scanner) {
         try {
             System.out.print("\nInforme um nome para a amostragem: ");
@@ -380,19 +845,28 @@ public class ImageSortingSystem {
             int choice = getIntInput(scanner, "Escolha uma opção: ");
             if (choice == 0) return;
 
-            String[] data;
+            LoadedData loaded;
             if (choice == 1) {
-                data = handleExternalData(scanner);
+                loaded = handleExternalData(scanner);
             } else {
-                data = handleInternalData(scanner);
+                loaded = handleInternalData(scanner);
             }
 
-            if (data == null) return;
+            if (loaded == null) return;
+            RecordStore data = loaded.data;
+
+            int warmupRounds = getIntInput(scanner, "Rodadas de aquecimento por algoritmo (padrão " + SortingManager.DEFAULT_WARMUP_ROUNDS + "): ", SortingManager.DEFAULT_WARMUP_ROUNDS);
+            int measuredRounds = getIntInput(scanner, "Rodadas medidas por algoritmo (padrão " + SortingManager.DEFAULT_MEASURED_ROUNDS + "): ", SortingManager.DEFAULT_MEASURED_ROUNDS);
+            if (warmupRounds < 0 || measuredRounds <= 0) {
+                System.out.println("Valores inválidos. Usando o padrão.");
+                warmupRounds = SortingManager.DEFAULT_WARMUP_ROUNDS;
+                measuredRounds = SortingManager.DEFAULT_MEASURED_ROUNDS;
+            }
 
             AtomicBoolean cancelFlag = new AtomicBoolean(false);
             System.out.println("\nIniciando execução do programa de ordenação.\n");
 
-            SortingManager sortingManager = new SortingManager(data, cancelFlag, sampleName);
+            SortingManager sortingManager = new SortingManager(data, cancelFlag, sampleName, warmupRounds, measuredRounds);
 
             if (isParallel) {
                 sortingManager.executeSortingAlgorithmsInParallel();
@@ -401,8 +875,11 @@ public class ImageSortingSystem {
             }
 
             sortingManager.savePerformanceReport();
+            sortingManager.compareWithBaseline(new ResultsStore(ResultsStore.DEFAULT_FILE), loaded.spec + ":" + (isParallel ? "parallel" : "sequential"));
 
-            catalogByState(data, sampleName);
+            System.out.print("Salvar os números de cada estado em arquivos separados? (s/n): ");
+            boolean separateFiles = scanner.nextLine().trim().equalsIgnoreCase("s");
+            catalogByState(data, sampleName, separateFiles);
 
             System.out.println("\nExecução do programa de ordenação concluída. Retornando ao menu principal...\n");
 
@@ -443,24 +920,55 @@ public class ImageSortingSystem {
             sizes.add(size);
         }
 
-        Map<Integer, String> bestAlgorithms = new HashMap<>();
-        Map<Integer, Map<String, Double>> performanceData = new HashMap<>();
+        Map<DatasetShape, Map<Integer, Map<String, Double>>> performanceByWorkload = new LinkedHashMap<>();
+        for (DatasetShape workload : SCALABILITY_WORKLOADS) {
+            Map<Integer, String> bestAlgorithms = new HashMap<>();
+            Map<Integer, Map<String, Double>> performanceData = new HashMap<>();
 
-        for (int size : sizes) {
-            System.out.printf("Gerando dados para %d elementos...\n", size);
-            String[] data = DataLoader.generateRandomData(size);
-            AtomicBoolean cancelFlag = new AtomicBoolean(false);
+            for (int size : sizes) {
+                System.out.printf("Gerando dados (%s) para %d elementos...\n", workload.label(), size);
+                RecordStore data = workload.generate(size, DataLoader.newSeed());
+                AtomicBoolean cancelFlag = new AtomicBoolean(false);
 
-            SortingManager sortingManager = new SortingManager(data, cancelFlag, "ScalabilityTest_" + size);
-            System.out.printf("Executando algoritmos de ordenação para %d elementos...\n", size);
+                SortingManager sortingManager = new SortingManager(data, cancelFlag, "ScalabilityTest_" + workload.label() + "_" + size);
+                System.out.printf("Executando algoritmos de ordenação para %d elementos...\n", size);
 
-            sortingManager.executeSortingAlgorithms();
-            bestAlgorithms.put(size, sortingManager.getBestAlgorithm());
-            performanceData.put(size, sortingManager.getPerformanceData());
-            sortingManager.savePerformanceReport();
+                sortingManager.executeSortingAlgorithms();
+                bestAlgorithms.put(size, sortingManager.getBestAlgorithm());
+                performanceData.put(size, sortingManager.getPerformanceData());
+                sortingManager.savePerformanceReport();
+                sortingManager.compareWithBaseline(new ResultsStore(ResultsStore.DEFAULT_FILE), "escalabilidade:" + workload.label());
+            }
+
+            displayScalabilityReport(workload.label(), bestAlgorithms, performanceData);
+            performanceByWorkload.put(workload, performanceData);
+        }
+
+        displayWorkloadComparison(sizes, performanceByWorkload);
+    }
+
+    private static void displayWorkloadComparison(List<Integer> sizes, Map<DatasetShape, Map<Integer, Map<String, Double>>> performanceByWorkload) {
+        System.out.println("\n===== Tempo Médio por Carga de Trabalho (ms) =====");
+        StringBuilder header = new StringBuilder(String.format("%-12s", "Tamanho"));
+        for (DatasetShape workload : performanceByWorkload.keySet()) {
+            for (String algorithm : WORKLOAD_COMPARISON_ALGORITHMS) {
+                header.append(String.format(" %-32s", algorithm + " (" + workload.label() + ")"));
+            }
         }
+        System.out.println(header);
 
-        displayScalabilityReport(bestAlgorithms, performanceData);
+        for (int size : sizes) {
+            StringBuilder row = new StringBuilder(String.format("%-12d", size));
+            for (Map<Integer, Map<String, Double>> performanceData : performanceByWorkload.values()) {
+                Map<String, Double> times = performanceData.getOrDefault(size, Map.of());
+                for (String algorithm : WORKLOAD_COMPARISON_ALGORITHMS) {
+                    Double time = times.get(algorithm);
+                    row.append(String.format(" %-32s", time != null ? String.format("%.2f", time) : "-"));
+                }
+            }
+            System.out.println(row);
+        }
+        System.out.println("Com muitas chaves repetidas, o particionamento em três vias agrupa as chaves iguais no meio e não as ordena novamente.");
     }
 
     private static double calculateFinalScore(String algorithm, Map<String, Double> totalExecutionTime, Map<String, Long> totalComparisons, Map<String, Long> totalSwaps) {
@@ -477,7 +985,7 @@ public class ImageSortingSystem {
         return (timeScore * 0.9) + (comparisonScore * 0.05) + (swapScore * 0.05);
     }
 
-    private static void displayScalabilityReport(Map<Integer, String> bestAlgorithms, Map<Integer, Map<String, Double>> performanceData) {
+    static void displayScalabilityReport(String workload, Map<Integer, String> bestAlgorithms, Map<Integer, Map<String, Double>> performanceData) {
         File outputFolder = new File("output_data");
         if (!outputFolder.exists() && !outputFolder.mkdir()) {
             System.out.println("Falha ao criar a pasta output_data.");
@@ -485,10 +993,10 @@ public class ImageSortingSystem {
         }
 
         String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
-        File reportFile = new File(outputFolder, "scalability_report_" + timestamp + ".txt");
+        File reportFile = new File(outputFolder, "scalability_report_" + workload + "_" + timestamp + ".txt");
 
         try (PrintWriter writer = new PrintWriter(new FileWriter(reportFile))) {
-            String header = "===== Relatório Completo de Escalabilidade =====";
+            String header = "===== Relatório Completo de Escalabilidade (" + workload + ") =====";
             String separator = "----------------------------------------------------";
 
 
@@ -609,10 +1117,12 @@ public class ImageSortingSystem {
         writer.println("1. QuickSort é eficiente para dados quase ordenados e tamanhos de dados menores.");
         writer.println("2. MergeSort apresenta desempenho mais estável em grandes volumes de dados.");
         writer.println("3. HeapSort é preferível para dados aleatórios onde a estabilidade não é um requisito.");
+        writer.println("4. RadixSort é o mais rápido para grandes volumes, pois ordena em tempo linear pelo número da área e é estável.");
         System.out.println("\n--- Conselhos de Utilização dos Algoritmos ---");
         System.out.println("1. QuickSort é eficiente para dados quase ordenados e tamanhos de dados menores.");
         System.out.println("2. MergeSort apresenta desempenho mais estável em grandes volumes de dados.");
         System.out.println("3. HeapSort é preferível para dados aleatórios onde a estabilidade não é um requisito.");
+        System.out.println("4. RadixSort é o mais rápido para grandes volumes, pois ordena em tempo linear pelo número da área e é estável.");
     }
 
 
@@ -649,9 +1159,19 @@ public class ImageSortingSystem {
         }
     }
 
+    private static class LoadedData {
+        final RecordStore data;
+        final String spec;
+
+        LoadedData(RecordStore data, String spec) {
+            this.data = data;
+            this.spec = spec;
+        }
+    }
+
 
-    private static String[] handleExternalData(Scanner scanner) throws IOException {
-        System.out.print("Informe o nome do arquivo (ex.: dados.txt): ");
+    private static LoadedData handleExternalData(Scanner scanner) throws IOException {
+        System.out.print("Informe o nome do arquivo (ex.: dados.txt ou dados.bin): ");
         String fileName = scanner.nextLine().trim();
         File file = new File(fileName);
 
@@ -666,21 +1186,21 @@ public class ImageSortingSystem {
                     return handleExternalData(scanner);
                 }
                 System.out.println("Gerando dados aleatórios e salvando no arquivo...");
-                String[] data = DataLoader.generateRandomData(size);
+                RecordStore data = DataLoader.generateRandomData(size);
                 DataLoader.saveDataToFile(fileName, data);
                 System.out.println("Arquivo criado e preenchido com dados aleatórios.");
-                return data;
+                return new LoadedData(data, "arquivo:" + fileName);
             } else {
                 System.out.println("Operação cancelada.");
                 return null;
             }
         } else {
             System.out.println("Carregando dados do arquivo " + fileName + "...");
-            return DataLoader.loadDataFromFile(fileName);
+            return new LoadedData(DataLoader.loadDataFromFile(fileName), "arquivo:" + fileName);
         }
     }
 
-    private static String[] handleInternalData(Scanner scanner) {
+    private static LoadedData handleInternalData(Scanner scanner) {
         System.out.println("Escolha o tamanho dos dados:");
         System.out.println("1 - Pequeno (1.000 elementos)");
         System.out.println("2 - Médio (10.000 elementos)");
@@ -703,7 +1223,8 @@ public class ImageSortingSystem {
             }
         }
 
-        return DataLoader.generateRandomData(dataSize);
+        long seed = getSeedInput(scanner);
+        return new LoadedData(DatasetShape.RANDOM.generate(dataSize, seed), "gerado:" + DatasetShape.RANDOM.label() + ":seed=" + seed);
     }
 
     private static int getCustomSize(Scanner scanner) {
@@ -715,176 +1236,211 @@ public class ImageSortingSystem {
         return size;
     }
 
-    private static void catalogByState(String[] sortedData, String sampleName) {
-        Map<String, List<String>> stateCatalog = new LinkedHashMap<>();
-        stateCatalog.put("Amazonas", new ArrayList<>());
-        stateCatalog.put("Pará", new ArrayList<>());
-        stateCatalog.put("Mato Grosso", new ArrayList<>());
-        stateCatalog.put("Rondônia", new ArrayList<>());
-        stateCatalog.put("Maranhão", new ArrayList<>());
-
-        int preservedCount = 0;
-        int burnedCount = 0;
-        int deforestedCount = 0;
-
-        for (String data : sortedData) {
-            String[] parts = data.split(":");
-            int number = Integer.parseInt(parts[0]);
-            int status = Integer.parseInt(parts[1]);
-
-            if (status == 1) preservedCount++;
-            else if (status == 2) burnedCount++;
-            else if (status == 3) deforestedCount++;
-
-            if (number >= 1 && number <= 3_130_000) {
-                stateCatalog.get("Amazonas").add(data);
-            } else if (number >= 3_130_001 && number <= 5_640_000) {
-                stateCatalog.get("Pará").add(data);
-            } else if (number >= 5_640_001 && number <= 7_400_000) {
-                stateCatalog.get("Mato Grosso").add(data);
-            } else if (number >= 7_400_001 && number <= 8_060_000) {
-                stateCatalog.get("Rondônia").add(data);
-            } else if (number >= 8_060_001 && number <= 10_000_000) {
-                stateCatalog.get("Maranhão").add(data);
-            }
+    private static void catalogByState(RecordStore data, String sampleName, boolean separateFiles) {
+        RecordStore sortedData = data;
+        if (!StateCatalog.isSortedByArea(data)) {
+            sortedData = data.copy();
+            Arrays.parallelSort(sortedData.records());
         }
 
-        displayStateCatalogReport(stateCatalog, sortedData.length, preservedCount, burnedCount, deforestedCount);
-        saveStateCatalog(stateCatalog, sampleName, preservedCount, burnedCount, deforestedCount);
+        StateCatalog catalog = StateCatalog.build(sortedData);
+        displayStateCatalogReport(catalog);
+        saveStateCatalog(catalog, sampleName, separateFiles);
     }
 
-    private static void displayStateCatalogReport(Map<String, List<String>> stateCatalog, int totalNumbers, int preservedCount, int burnedCount, int deforestedCount) {
+    private static void displayStateCatalogReport(StateCatalog catalog) {
+        int totalNumbers = catalog.data().size();
         System.out.println("\n===== Relatório de Catalogação por Estado =====");
         System.out.println("Data de Execução: " + new SimpleDateFormat("yyyy/MM/dd HH:mm:ss").format(new Date()));
         System.out.println("----------------------------------------------------");
 
-        for (Map.Entry<String, List<String>> entry : stateCatalog.entrySet()) {
-            String state = entry.getKey();
-            int count = entry.getValue().size();
+        for (int state = 0; state < StateCatalog.STATE_NAMES.length; state++) {
+            int count = catalog.stateCount(state);
             double percentage = (count / (double) totalNumbers) * 100;
-            System.out.printf("Estado: %s - Total: %d (%.2f%%)\n", state, count, percentage);
+            System.out.printf("Estado: %s - Total: %d (%.2f%%)\n", StateCatalog.STATE_NAMES[state], count, percentage);
         }
         System.out.println("===============================================");
-        System.out.printf("Total Preservado: %d (%.2f%%)\n", preservedCount, (preservedCount / (double) totalNumbers) * 100);
-        System.out.printf("Total Queimado: %d (%.2f%%)\n", burnedCount, (burnedCount / (double) totalNumbers) * 100);
-        System.out.printf("Total Desmatado: %d (%.2f%%)\n", deforestedCount, (deforestedCount / (double) totalNumbers) * 100);
+        System.out.printf("Total Preservado: %d (%.2f%%)\n", catalog.statusTotal(1), (catalog.statusTotal(1) / (double) totalNumbers) * 100);
+        System.out.printf("Total Queimado: %d (%.2f%%)\n", catalog.statusTotal(2), (catalog.statusTotal(2) / (double) totalNumbers) * 100);
+        System.out.printf("Total Desmatado: %d (%.2f%%)\n", catalog.statusTotal(3), (catalog.statusTotal(3) / (double) totalNumbers) * 100);
     }
 
-    private static void saveStateCatalog(Map<String, List<String>> stateCatalog, String sampleName, int preservedCount, int burnedCount, int deforestedCount) {
+    private static void saveStateCatalog(StateCatalog catalog, String sampleName, boolean separateFiles) {
         String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
-        File outputFile = new File("output_data", sampleName + "_state_catalog_" + timestamp + ".txt");
-
-        try (PrintWriter writer = new PrintWriter(new FileWriter(outputFile))) {
-            writer.println("===== Relatório de Catalogação por Estado =====");
-            writer.println("Data de Execução: " + new SimpleDateFormat("yyyy/MM/dd HH:mm:ss").format(new Date()));
-            writer.println("----------------------------------------------------");
-
-            for (Map.Entry<String, List<String>> entry : stateCatalog.entrySet()) {
-                String state = entry.getKey();
-                List<String> numbersList = entry.getValue();
+        String executionDate = new SimpleDateFormat("yyyy/MM/dd HH:mm:ss").format(new Date());
+        Path outputFile = Path.of("output_data", sampleName + "_state_catalog_" + timestamp + ".txt");
+        int preservedCount = catalog.statusTotal(1);
+        int burnedCount = catalog.statusTotal(2);
+        int deforestedCount = catalog.statusTotal(3);
+        int statusTotal = preservedCount + burnedCount + deforestedCount;
 
-                numbersList.sort(Comparator.comparingInt(data -> Integer.parseInt(data.split(":")[0])));
+        try {
+            Path[] stateFiles = new Path[StateCatalog.STATE_NAMES.length];
+            if (separateFiles) {
+                List<Callable<Void>> tasks = new ArrayList<>();
+                for (int s = 0; s < StateCatalog.STATE_NAMES.length; s++) {
+                    int state = s;
+                    stateFiles[state] = Path.of("output_data", sampleName + "_state_catalog_" + timestamp + "_" + StateCatalog.fileNameOf(state) + ".txt");
+                    tasks.add(() -> {
+                        try (ChannelTextWriter writer = new ChannelTextWriter(stateFiles[state])) {
+                            writeStateBlock(writer, catalog, state, null);
+                        }
+                        return null;
+                    });
+                }
+                ParallelUtils.invokeAll(tasks);
+            }
 
-                int statePreserved = 0;
-                int stateBurned = 0;
-                int stateDeforested = 0;
+            try (ChannelTextWriter writer = new ChannelTextWriter(outputFile)) {
+                writer.println("===== Relatório de Catalogação por Estado =====");
+                writer.println("Data de Execução: " + executionDate);
+                writer.println("----------------------------------------------------");
 
-                for (String data : numbersList) {
-                    int status = Integer.parseInt(data.split(":")[1]);
-                    switch (status) {
-                        case 1 -> statePreserved++;
-                        case 2 -> stateBurned++;
-                        case 3 -> stateDeforested++;
-                    }
+                for (int state = 0; state < StateCatalog.STATE_NAMES.length; state++) {
+                    writeStateBlock(writer, catalog, state, stateFiles[state]);
                 }
 
-                writer.println("Estado: " + state);
-                writer.println("Números: " + numbersList);
-                writer.printf("Total: %d (Preservado: %d, Queimado: %d, Desmatado: %d)\n", numbersList.size(), statePreserved, stateBurned, stateDeforested);
+                writer.print(String.format("Total Preservado: %d (%.2f%%)\n", preservedCount, (preservedCount / (double) statusTotal) * 100));
+                writer.print(String.format("Total Queimado: %d (%.2f%%)\n", burnedCount, (burnedCount / (double) statusTotal) * 100));
+                writer.print(String.format("Total Desmatado: %d (%.2f%%)\n", deforestedCount, (deforestedCount / (double) statusTotal) * 100));
                 writer.println("----------------------------------------------------");
             }
 
-            writer.printf("Total Preservado: %d (%.2f%%)\n", preservedCount, (preservedCount / (double) (preservedCount + burnedCount + deforestedCount)) * 100);
-            writer.printf("Total Queimado: %d (%.2f%%)\n", burnedCount, (burnedCount / (double) (preservedCount + burnedCount + deforestedCount)) * 100);
-            writer.printf("Total Desmatado: %d (%.2f%%)\n", deforestedCount, (deforestedCount / (double) (preservedCount + burnedCount + deforestedCount)) * 100);
-            writer.println("----------------------------------------------------");
-
-            System.out.println("Catalogação por estado salva em: " + outputFile.getAbsolutePath());
+            System.out.println("Catalogação por estado salva em: " + outputFile.toAbsolutePath());
+            if (separateFiles) {
+                System.out.println("Números de cada estado salvos em arquivos separados em: " + outputFile.toAbsolutePath().getParent());
+            }
         } catch (IOException e) {
             System.out.println("Erro ao salvar a catalogação por estado: " + e.getMessage());
+        } catch (InterruptedException e) {
+            System.out.println("Catalogação por estado interrompida: " + e.getMessage());
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void writeStateBlock(ChannelTextWriter writer, StateCatalog catalog, int state, Path stateFile) throws IOException {
+        writer.println("Estado: " + StateCatalog.STATE_NAMES[state]);
+        if (stateFile != null) {
+            writer.println("Números: " + stateFile.getFileName());
+        } else {
+            writer.print("Números: ");
+            writer.printRecords(catalog.data().records(), catalog.stateStart(state), catalog.stateEnd(state));
+            writer.println("");
         }
+        writer.print(String.format("Total: %d (Preservado: %d, Queimado: %d, Desmatado: %d)\n", catalog.stateCount(state), catalog.count(state, 1), catalog.count(state, 2), catalog.count(state, 3)));
+        writer.println("----------------------------------------------------");
     }
 }
 
 class DataLoader {
-    public static String[] generateRandomData(int size) {
-        Random random = new Random();
-        String[] data = new String[size];
-
-        for (int i = 0; i < size; i++) {
-            int digitCategory = random.nextInt(8) + 1;
-            int lowerBound = (int) Math.pow(10, digitCategory - 1);
-            int upperBound = (int) Math.pow(10, digitCategory) - 1;
-            int number = random.nextInt(upperBound - lowerBound + 1) + lowerBound;
+    private static final int GENERATION_CHUNK_SIZE = 1 << 20;
+    private static final int GENERATION_TASK_SIZE = 1 << 16;
+    private static final int[] POWERS_OF_TEN = {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000};
 
-            int status = (random.nextInt(100) < 90) ? 1 : (random.nextBoolean() ? 2 : 3);
-            data[i] = number + ":" + status;
-        }
-        return data;
+    public static long newSeed() {
+        return new SplittableRandom().nextLong();
     }
 
-    public static String[] generateComplexData(int size, Map<String, Integer> statePercentages, Map<String, Integer> statusPercentages) {
-        Random random = new Random();
-        String[] data = new String[size];
+    public static RecordStore generateRandomData(int size) {
+        return generateRandomData(size, newSeed());
+    }
 
+    public static RecordStore generateRandomData(int size, long seed) {
+        RecordStore data = new RecordStore(size);
+        long[] records = data.records();
+        SplittableRandom seedSource = new SplittableRandom(seed);
+
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int from = 0; from < size; from += GENERATION_TASK_SIZE) {
+            int start = from;
+            int end = Math.min(from + GENERATION_TASK_SIZE, size);
+            SplittableRandom random = seedSource.split();
+            tasks.add(() -> {
+                for (int i = start; i < end; i++) {
+                    records[i] = randomRecord(random);
+                }
+                return null;
+            });
+        }
 
-        Map<String, Integer> stateCounts = calculateCounts(statePercentages, size);
-        Map<String, Integer> statusCounts = calculateCounts(statusPercentages, size);
+        runGenerationTasks(tasks);
+        return data;
+    }
 
+    private static long randomRecord(SplittableRandom random) {
+        int digitCategory = random.nextInt(8) + 1;
+        int lowerBound = POWERS_OF_TEN[digitCategory - 1];
+        int upperBound = POWERS_OF_TEN[digitCategory];
+        int number = random.nextInt(lowerBound, upperBound);
 
-        int[] ranges = {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000};
-        int numRanges = ranges.length - 1;
+        int status = (random.nextInt(100) < 90) ? 1 : (random.nextBoolean() ? 2 : 3);
+        return RecordStore.pack(number, status);
+    }
 
-        int index = 0;
-        for (String state : stateCounts.keySet()) {
-            int stateCount = stateCounts.getOrDefault(state, 0);
-            for (int i = 0; i < stateCount; i++) {
+    public static RecordStore generateComplexData(int size, Map<String, Integer> statePercentages, Map<String, Integer> statusPercentages) {
+        return generateComplexData(size, statePercentages, statusPercentages, newSeed());
+    }
 
-                int rangeIndex = i % numRanges;
-                int min = ranges[rangeIndex];
-                int max = ranges[rangeIndex + 1] - 1;
-                int number = random.nextInt(max - min + 1) + min;
-                String status = getStatusBasedOnPercentage(statusCounts, random);
-                data[index++] = number + ":" + status;
+    public static RecordStore generateComplexData(int size, Map<String, Integer> statePercentages, Map<String, Integer> statusPercentages, long seed) {
+        Map<String, Integer> stateCounts = calculateCounts(statePercentages, size);
+        AliasSampler statusSampler = buildStatusSampler(statusPercentages);
+
+        RecordStore data = new RecordStore(stateCounts.values().stream().mapToInt(Integer::intValue).sum());
+        long[] records = data.records();
+        SplittableRandom seedSource = new SplittableRandom(seed);
+
+        int numRanges = POWERS_OF_TEN.length - 2;
+
+        List<Callable<Void>> tasks = new ArrayList<>();
+        int offset = 0;
+        for (String state : new TreeSet<>(stateCounts.keySet())) {
+            int stateCount = stateCounts.get(state);
+            for (int from = 0; from < stateCount; from += GENERATION_TASK_SIZE) {
+                int start = from;
+                int end = Math.min(from + GENERATION_TASK_SIZE, stateCount);
+                int base = offset;
+                SplittableRandom random = seedSource.split();
+                tasks.add(() -> {
+                    for (int i = start; i < end; i++) {
+                        int rangeIndex = i % numRanges;
+                        int number = random.nextInt(POWERS_OF_TEN[rangeIndex], POWERS_OF_TEN[rangeIndex + 1]);
+                        int status = statusSampler.sample(random);
+                        records[base + i] = RecordStore.pack(number, status);
+                    }
+                    return null;
+                });
             }
+            offset += stateCount;
         }
 
+        runGenerationTasks(tasks);
         return data;
     }
 
+    private static void runGenerationTasks(List<Callable<Void>> tasks) {
+        try {
+            ParallelUtils.invokeAll(tasks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Geração de dados interrompida");
+        }
+    }
 
 
 
-    private static String getStatusBasedOnPercentage(Map<String, Integer> statusCounts, Random random) {
-        int total = statusCounts.values().stream().mapToInt(Integer::intValue).sum();
-        int rand = random.nextInt(total);
-        int cumulative = 0;
-
 
-        Map<String, String> statusMap = Map.of(
-                "Preservado", "1",
-                "Queimado", "2",
-                "Desmatado", "3"
+    private static AliasSampler buildStatusSampler(Map<String, Integer> statusPercentages) {
+        Map<String, Integer> statusMap = Map.of(
+                "Preservado", 1,
+                "Queimado", 2,
+                "Desmatado", 3
         );
 
-        for (Map.Entry<String, Integer> entry : statusCounts.entrySet()) {
-            cumulative += entry.getValue();
-            if (rand < cumulative) {
-
-                return statusMap.getOrDefault(entry.getKey(), "1");
-            }
+        int[] weights = new int[4];
+        for (Map.Entry<String, Integer> entry : statusPercentages.entrySet()) {
+            weights[statusMap.getOrDefault(entry.getKey(), 1)] += Math.max(entry.getValue(), 0);
         }
-        return "1";
+        return new AliasSampler(new int[]{1, 2, 3}, new int[]{weights[1], weights[2], weights[3]});
     }
 
 
@@ -901,763 +1457,3709 @@ class DataLoader {
 
 
 
-    public static void saveDataToFile(String fileName, String[] data) throws IOException {
+    public static void saveDataToFile(String fileName, RecordStore data) throws IOException {
         File file = new File(fileName);
-        try (PrintWriter writer = new PrintWriter(new FileWriter(file))) {
-            for (String value : data) {
-                writer.println(value);
+        if (fileName.endsWith(BinaryDataset.EXTENSION)) {
+            BinaryDataset.save(fileName, data);
+            System.out.println("Arquivo de dados salvo com sucesso no diretório: " + file.getAbsolutePath());
+            return;
+        }
+        try (PrintWriter writer = new PrintWriter(new BufferedWriter(new FileWriter(file)))) {
+            for (long record : data.records()) {
+                writer.println(RecordStore.format(record));
             }
             System.out.println("Arquivo de dados salvo com sucesso no diretório: " + file.getAbsolutePath());
         }
     }
 
+    public static void generateRandomDataToFile(String fileName, int size) throws IOException {
+        generateRandomDataToFile(fileName, size, newSeed());
+    }
 
-    public static String[] loadDataFromFile(String fileName) throws IOException {
-        List<String> dataList = new ArrayList<>();
-        try (BufferedReader reader = new BufferedReader(new FileReader(fileName))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                dataList.add(line.trim());
+    public static void generateRandomDataToFile(String fileName, int size, long seed) throws IOException {
+        SplittableRandom seedSource = new SplittableRandom(seed);
+        try (RecordWriter writer = openWriter(fileName)) {
+            for (int generated = 0; generated < size; generated += GENERATION_CHUNK_SIZE) {
+                RecordStore chunk = generateRandomData(Math.min(GENERATION_CHUNK_SIZE, size - generated), seedSource.nextLong());
+                writer.write(chunk.records(), 0, chunk.size());
             }
         }
-        return dataList.toArray(new String[0]);
+        System.out.println("Arquivo de dados salvo com sucesso no diretório: " + new File(fileName).getAbsolutePath());
     }
-}
 
-interface SortingAlgorithm {
-    void sort(String[] array, AtomicBoolean cancelFlag, Statistics stats);
-}
 
-class Statistics {
-    private long comparisons;
-    private long swaps;
+    public static RecordStore loadDataFromFile(String fileName) throws IOException {
+        if (BinaryDataset.isBinaryDataset(fileName)) {
+            return BinaryDataset.load(fileName);
+        }
 
-    public void incrementComparisons() {
-        comparisons++;
+        return ParallelTextLoader.load(fileName);
     }
 
-    public void incrementSwaps() {
-        swaps++;
+    public static RecordReader openReader(String fileName) throws IOException {
+        if (BinaryDataset.isBinaryDataset(fileName)) {
+            return new BinaryDataset.Reader(fileName);
+        }
+        return new TextRecordReader(fileName);
     }
 
-    public long getComparisons() {
-        return comparisons;
-    }
-
-    public long getSwaps() {
-        return swaps;
+    public static RecordWriter openWriter(String fileName) throws IOException {
+        if (fileName.endsWith(BinaryDataset.EXTENSION)) {
+            return new BinaryDataset.Writer(fileName);
+        }
+        return new TextRecordWriter(fileName);
     }
 
-    public void reset() {
-        comparisons = 0;
-        swaps = 0;
-    }
-}
+    private static class TextRecordReader implements RecordReader {
+        private final BufferedReader reader;
+        private int lineNumber;
 
-class SortingManager {
-    private final String[] originalData;
-    private final List<SortingAlgorithm> algorithms;
-    private final Map<String, List<Double>> executionTimes;
-    private final Map<String, Double> stdDeviations;
-    private final AtomicBoolean cancelFlag;
-    private final String sampleName;
-    private final Map<String, Long> totalComparisons = new HashMap<>();
-    private final Map<String, Long> totalSwaps = new HashMap<>();
-    private final Map<String, String> savedFilePaths = new HashMap<>();
+        TextRecordReader(String fileName) throws IOException {
+            this.reader = new BufferedReader(new FileReader(fileName));
+        }
 
+        @Override
+        public int read(long[] buffer, int offset, int length) throws IOException {
+            int count = 0;
+            String line;
+            while (count < length && (line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.trim();
+                if (line.isEmpty()) continue;
+
+                try {
+                    buffer[offset + count] = RecordStore.parse(line);
+                    count++;
+                } catch (NumberFormatException e) {
+                    throw new IOException("Registro inválido na linha " + lineNumber + ": " + line);
+                }
+            }
+            return count == 0 && length > 0 ? -1 : count;
+        }
 
-    public SortingManager(String[] data, AtomicBoolean cancelFlag, String sampleName) {
-        this.originalData = data;
-        this.algorithms = List.of(new QuickSort(), new MergeSort(), new HeapSort());
-        this.executionTimes = new HashMap<>();
-        this.stdDeviations = new HashMap<>();
-        this.cancelFlag = cancelFlag;
-        this.sampleName = sampleName;
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
     }
 
-    private void saveSortedArrayToFile(String[] sortedArray, String algorithmName) {
-        File outputFolder = new File("sorted_data");
-        if (!outputFolder.exists() && !outputFolder.mkdir()) {
-            System.out.println("Falha ao criar a pasta sorted_data.");
-            return;
+    private static class TextRecordWriter implements RecordWriter {
+        private final String fileName;
+        private final PrintWriter writer;
+
+        TextRecordWriter(String fileName) throws IOException {
+            this.fileName = fileName;
+            this.writer = new PrintWriter(new BufferedWriter(new FileWriter(fileName)));
         }
 
-        String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
-        File outputFile = new File(outputFolder, sampleName + "_" + algorithmName + "_sorted_" + timestamp + ".txt");
+        @Override
+        public void write(long record) {
+            writer.println(RecordStore.format(record));
+        }
 
-        try (PrintWriter writer = new PrintWriter(new FileWriter(outputFile))) {
-            for (String value : sortedArray) {
-                writer.println(value);
-            }
-            synchronized (this) {
-                savedFilePaths.put(algorithmName, outputFile.getAbsolutePath());
+        @Override
+        public void close() throws IOException {
+            writer.close();
+            if (writer.checkError()) {
+                throw new IOException("Erro ao gravar o arquivo " + fileName);
             }
-        } catch (IOException e) {
-            System.out.println("Erro ao salvar o array ordenado: " + e.getMessage());
         }
     }
+}
 
-    public void executeSortingAlgorithmsInParallel() {
-        ProgressUtils.setupTerminal();
-
+class ParallelTextLoader {
+    private static final long MIN_CHUNK_BYTES = 1 << 20;
+    private static final long MAX_CHUNK_BYTES = 1 << 30;
+    private static final int CHUNKS_PER_THREAD = 4;
 
-        try (ExecutorService executor = Executors.newFixedThreadPool(algorithms.size())) {
-            List<Callable<Void>> tasks = new ArrayList<>();
+    public static RecordStore load(String fileName) throws IOException {
+        try (FileChannel channel = FileChannel.open(Path.of(fileName), StandardOpenOption.READ)) {
+            long[] boundaries = splitOnNewlines(channel);
 
-            for (SortingAlgorithm algorithm : algorithms) {
-                ProgressUtils.initializeProgress(algorithm.getClass().getSimpleName());
-                tasks.add(() -> {
-                    executeSingleAlgorithm(algorithm);
-                    return null;
-                });
+            List<Callable<ChunkParser>> tasks = new ArrayList<>();
+            for (int i = 0; i + 1 < boundaries.length; i++) {
+                tasks.add(new ChunkParser(channel, boundaries[i], boundaries[i + 1]));
             }
 
+            List<ChunkParser> chunks;
+            try {
+                chunks = ParallelUtils.invokeAll(tasks);
+            } catch (InvalidRecordException e) {
+                throw new IOException("Registro inválido na linha " + lineNumberAt(channel, e.offset) + ": " + lineAt(channel, e.offset));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Carregamento interrompido: " + fileName);
+            }
 
-            executor.invokeAll(tasks);
-
+            long total = 0;
+            for (ChunkParser chunk : chunks) {
+                total += chunk.count;
+            }
+            if (total > Integer.MAX_VALUE - 8) {
+                throw new IOException("Arquivo grande demais para a memória: " + total + " registros");
+            }
 
-            displayAllSavedPaths();
+            long[] records = new long[(int) total];
+            int offset = 0;
+            for (ChunkParser chunk : chunks) {
+                System.arraycopy(chunk.records, 0, records, offset, chunk.count);
+                offset += chunk.count;
+            }
+            return new RecordStore(records);
+        }
+    }
 
+    private static long[] splitOnNewlines(FileChannel channel) throws IOException {
+        long fileSize = channel.size();
+        int parallelism = ForkJoinPool.commonPool().getParallelism();
+        long chunkCount = Math.max(1, Math.min((long) parallelism * CHUNKS_PER_THREAD, fileSize / MIN_CHUNK_BYTES));
+        chunkCount = Math.max(chunkCount, (fileSize + MAX_CHUNK_BYTES - 1) / MAX_CHUNK_BYTES);
+
+        long[] boundaries = new long[(int) chunkCount + 1];
+        boundaries[boundaries.length - 1] = fileSize;
+        ByteBuffer probe = ByteBuffer.allocate(4096);
+        for (int i = 1; i < chunkCount; i++) {
+            long position = Math.max(boundaries[i - 1], fileSize * i / chunkCount - 1);
+            boundaries[i] = fileSize;
+            while (position < fileSize) {
+                probe.clear();
+                int read = channel.read(probe, position);
+                if (read <= 0) break;
+                int newline = -1;
+                for (int j = 0; j < read; j++) {
+                    if (probe.get(j) == '\n') {
+                        newline = j;
+                        break;
+                    }
+                }
+                if (newline >= 0) {
+                    boundaries[i] = position + newline + 1;
+                    break;
+                }
+                position += read;
+            }
+        }
+        return boundaries;
+    }
 
-            ProgressUtils.finalizeProgress();
-        } catch (InterruptedException e) {
-            System.out.println("Execução paralela interrompida: " + e.getMessage());
-            Thread.currentThread().interrupt();
+    private static long lineNumberAt(FileChannel channel, long offset) throws IOException {
+        long lines = 1;
+        ByteBuffer buffer = ByteBuffer.allocate(1 << 16);
+        long position = 0;
+        while (position < offset) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), offset - position));
+            int read = channel.read(buffer, position);
+            if (read <= 0) break;
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') lines++;
+            }
+            position += read;
         }
+        return lines;
     }
 
-    private void displayAllSavedPaths() {
-        System.out.println("\n===== Caminhos dos Arquivos Ordenados =====");
-        savedFilePaths.forEach((algorithmName, filePath) ->
-                System.out.printf("%s: %s%n", algorithmName, filePath)
-        );
-        System.out.println("===========================================\n");
+    private static String lineAt(FileChannel channel, long offset) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        int read = Math.max(0, channel.read(buffer, offset));
+        int length = 0;
+        while (length < read && buffer.get(length) != '\n') {
+            length++;
+        }
+        return new String(buffer.array(), 0, length, StandardCharsets.UTF_8).trim();
     }
 
+    private static class InvalidRecordException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
 
+        private final long offset;
 
-    private void executeSingleAlgorithm(SortingAlgorithm algorithm) {
-        if (cancelFlag.get()) return;
+        InvalidRecordException(long offset) {
+            super(null, null, false, false);
+            this.offset = offset;
+        }
+    }
 
-        String[] dataCopy = Arrays.copyOf(originalData, originalData.length);
-        String algorithmName = algorithm.getClass().getSimpleName();
-        List<Double> times = new ArrayList<>();
-        long comparisons = 0;
-        long swaps = 0;
+    private static class ChunkParser implements Callable<ChunkParser> {
+        private final FileChannel channel;
+        private final long start;
+        private final long end;
+        private MappedByteBuffer buffer;
+        private int position;
+        private int limit;
+        private long[] records;
+        private int count;
+
+        ChunkParser(FileChannel channel, long start, long end) {
+            this.channel = channel;
+            this.start = start;
+            this.end = end;
+        }
 
-        Statistics stats = new Statistics();
-        int totalIterations = 10;
+        @Override
+        public ChunkParser call() {
+            try {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            limit = buffer.limit();
+
+            records = new long[(int) Math.min(Integer.MAX_VALUE - 8, (end - start) / 8 + 16)];
+            while (position < limit) {
+                int lineStart = position;
+                skipBlanks();
+                if (position == limit) break;
+                if (buffer.get(position) == '\n') {
+                    position++;
+                    continue;
+                }
 
-        ProgressUtils.initializeProgress(algorithmName);
+                int areaNumber = parseNumber(lineStart);
+                if (position == limit || buffer.get(position) != ':') {
+                    throw new InvalidRecordException(start + lineStart);
+                }
+                position++;
+                int status = parseNumber(lineStart);
 
-        for (int i = 0; i < totalIterations && !cancelFlag.get(); i++) {
-            double timeMs = Timer.measureTimeMs(() -> algorithm.sort(dataCopy, cancelFlag, stats));
-            times.add(timeMs);
-            comparisons += stats.getComparisons();
-            swaps += stats.getSwaps();
-            stats.reset();
+                skipBlanks();
+                if (position < limit) {
+                    if (buffer.get(position) != '\n') {
+                        throw new InvalidRecordException(start + lineStart);
+                    }
+                    position++;
+                }
 
+                if (count == records.length) {
+                    records = Arrays.copyOf(records, (int) Math.min(Integer.MAX_VALUE - 8, records.length * 2L));
+                }
+                records[count++] = RecordStore.pack(areaNumber, status);
+            }
 
-            ProgressUtils.displayProgress(algorithmName, i + 1, totalIterations);
+            buffer = null;
+            return this;
         }
 
-        if (!cancelFlag.get()) {
-            synchronized (this) {
-                executionTimes.put(algorithmName, times);
-                stdDeviations.put(algorithmName, calculateStandardDeviation(times, calculateAverage(times)));
-                totalComparisons.put(algorithmName, comparisons / totalIterations);
-                totalSwaps.put(algorithmName, swaps / totalIterations);
-                saveSortedArrayToFile(dataCopy, algorithmName);
+        private void skipBlanks() {
+            while (position < limit) {
+                byte b = buffer.get(position);
+                if (b < 0 || b > ' ' || b == '\n') return;
+                position++;
             }
         }
-    }
 
-    public void executeSortingAlgorithms() {
-        for (SortingAlgorithm algorithm : algorithms) {
-            if (cancelFlag.get()) {
-                System.out.println("Processo de ordenação interrompido.");
-                return;
+        private int parseNumber(int lineStart) {
+            boolean negative = false;
+            if (position < limit && (buffer.get(position) == '-' || buffer.get(position) == '+')) {
+                negative = buffer.get(position) == '-';
+                position++;
             }
 
-            String[] dataCopy = Arrays.copyOf(originalData, originalData.length);
-            String algorithmName = algorithm.getClass().getSimpleName();
-            List<Double> times = new ArrayList<>();
-            long comparisons = 0;
-            long swaps = 0;
-
-            Statistics stats = new Statistics();
-            System.out.println("Iniciando " + algorithmName + "...");
-
-            for (int i = 0; i < 10 && !cancelFlag.get(); i++) {
-                displayProgressWithCancelOption(algorithmName, i);
-                double timeMs = Timer.measureTimeMs(() -> algorithm.sort(dataCopy, cancelFlag, stats));
-                times.add(timeMs);
-                comparisons += stats.getComparisons();
-                swaps += stats.getSwaps();
-                stats.reset();
+            long value = 0;
+            int digits = 0;
+            while (position < limit) {
+                byte b = buffer.get(position);
+                if (b < '0' || b > '9') break;
+                value = value * 10 + (b - '0');
+                if (value > 1L + Integer.MAX_VALUE) {
+                    throw new InvalidRecordException(start + lineStart);
+                }
+                digits++;
+                position++;
             }
 
-            if (!cancelFlag.get()) {
-                executionTimes.put(algorithmName, times);
-                stdDeviations.put(algorithmName, calculateStandardDeviation(times, calculateAverage(times)));
-                totalComparisons.put(algorithmName, comparisons / 10);
-                totalSwaps.put(algorithmName, swaps / 10);
-                System.out.println("\n" + algorithmName + " concluído.");
-
-
-                saveSortedArrayToFile(dataCopy, algorithmName);
-            } else {
-                System.out.println("Processo de ordenação interrompido.");
-                return;
+            if (negative) value = -value;
+            if (digits == 0 || value > Integer.MAX_VALUE || value < Integer.MIN_VALUE) {
+                throw new InvalidRecordException(start + lineStart);
             }
+            return (int) value;
         }
+    }
+}
 
+class AliasSampler {
+    private final int[] values;
+    private final long[] thresholds;
+    private final int[] aliases;
+    private final long total;
+
+    public AliasSampler(int[] values, int[] weights) {
+        int n = values.length;
+        long sum = 0;
+        for (int weight : weights) {
+            if (weight < 0) throw new IllegalArgumentException("Peso negativo: " + weight);
+            sum += weight;
+        }
+        if (n == 0 || sum == 0) throw new IllegalArgumentException("A distribuição deve ter peso positivo");
+
+        this.values = values.clone();
+        this.thresholds = new long[n];
+        this.aliases = new int[n];
+        this.total = sum;
+
+        long[] scaled = new long[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * (long) n;
+            aliases[i] = i;
+            if (scaled[i] < total) small[smallCount++] = i;
+            else large[largeCount++] = i;
+        }
 
-        displayAllSavedPaths();
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            thresholds[less] = scaled[less];
+            aliases[less] = more;
+            scaled[more] -= total - scaled[less];
+            if (scaled[more] < total) small[smallCount++] = more;
+            else large[largeCount++] = more;
+        }
+        while (largeCount > 0) thresholds[large[--largeCount]] = total;
+        while (smallCount > 0) thresholds[small[--smallCount]] = total;
     }
 
-
-    private double calculateAverage(List<Double> times) {
-        return times.stream().mapToDouble(Double::doubleValue).sum() / times.size();
+    public int sample(SplittableRandom random) {
+        int column = random.nextInt(values.length);
+        return random.nextLong(total) < thresholds[column] ? values[column] : values[aliases[column]];
     }
+}
+
+enum DatasetShape {
+    RANDOM("aleatorio"),
+    PARTIALLY_SORTED("semi-ordenado"),
+    SORTED("ordenado"),
+    REVERSED("invertido"),
+    DUPLICATES("duplicados");
 
-    private double calculateStandardDeviation(List<Double> times, double average) {
-        return (times.size() > 1) ? Math.sqrt(times.stream().mapToDouble(time -> Math.pow(time - average, 2)).sum() / (times.size() - 1)) : 0;
+    public static final int DUPLICATE_KEYS = 100;
+    private static final int PARTIAL_BLOCKS = 5;
+
+    private final String label;
+
+    DatasetShape(String label) {
+        this.label = label;
     }
 
-    public String getBestAlgorithm() {
-        return Collections.min(executionTimes.entrySet(), Comparator.comparingDouble(e -> calculateAverage(e.getValue()))).getKey();
+    public String label() {
+        return label;
     }
 
-    public Map<String, Double> getPerformanceData() {
-        Map<String, Double> performanceData = new HashMap<>();
-        for (Map.Entry<String, List<Double>> entry : executionTimes.entrySet()) {
-            String algorithmName = entry.getKey();
-            double avgTime = calculateAverage(entry.getValue());
-            performanceData.put(algorithmName, avgTime);
+    public static DatasetShape fromLabel(String label) {
+        for (DatasetShape shape : values()) {
+            if (shape.label.equalsIgnoreCase(label)) return shape;
         }
-        return performanceData;
+        throw new IllegalArgumentException("Formato desconhecido: " + label);
     }
 
-    private void displayProgressWithCancelOption(String algorithmName, int iteration) {
-        int progress = (iteration + 1) * 10;
-        System.out.printf("\r%s Progresso: [%s] %d%%", algorithmName, "=".repeat(progress / 10), progress);
+    public static List<String> labelList() {
+        List<String> labels = new ArrayList<>();
+        for (DatasetShape shape : values()) labels.add(shape.label);
+        return labels;
     }
 
+    public static String labels() {
+        return String.join(", ", labelList());
+    }
 
+    public RecordStore generate(int size, long seed) {
+        RecordStore data = DataLoader.generateRandomData(size, seed);
+        apply(data.records());
+        return data;
+    }
 
-    public void savePerformanceReport() {
-        if (cancelFlag.get()) return;
-
-        File outputFolder = new File("output_data");
-        if (!outputFolder.exists() && !outputFolder.mkdir()) {
-            System.out.println("Falha ao criar a pasta output_data.");
-            return;
+    public void apply(long[] records) {
+        switch (this) {
+            case RANDOM -> {
+            }
+            case PARTIALLY_SORTED -> {
+                int blockSize = Math.max(1, records.length / PARTIAL_BLOCKS);
+                for (int i = 0; i < records.length; i += blockSize) {
+                    Arrays.sort(records, i, Math.min(i + blockSize, records.length));
+                }
+            }
+            case SORTED -> Arrays.sort(records);
+            case REVERSED -> {
+                Arrays.sort(records);
+                for (int i = 0, j = records.length - 1; i < j; i++, j--) {
+                    long temp = records[i];
+                    records[i] = records[j];
+                    records[j] = temp;
+                }
+            }
+            case DUPLICATES -> {
+                for (int i = 0; i < records.length; i++) {
+                    int areaNumber = 1 + RecordStore.areaNumber(records[i]) % DUPLICATE_KEYS;
+                    records[i] = RecordStore.pack(areaNumber, RecordStore.status(records[i]));
+                }
+            }
         }
+    }
+}
 
-        String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
-        File reportFile = new File(outputFolder, sampleName + "_report_" + timestamp + ".txt");
-
-        try (PrintWriter writer = new PrintWriter(new FileWriter(reportFile))) {
-
-            PrintStream console = System.out;
+class ChannelTextWriter implements Closeable {
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int MAX_RECORD_LENGTH = 32;
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
 
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final byte[] digits = new byte[20];
 
-            Map<String, Double> averageTimes = new HashMap<>();
+    public ChannelTextWriter(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+    }
 
+    public void print(String text) throws IOException {
+        put(text.getBytes(StandardCharsets.UTF_8));
+    }
 
-            printBoth(writer, console, "Relatório de Desempenho:");
-            printBoth(writer, console, "Quantidade de dados: " + originalData.length + " elementos");
+    public void println(String text) throws IOException {
+        print(text);
+        put(LINE_SEPARATOR);
+    }
 
+    public void printRecords(long[] records, int from, int to) throws IOException {
+        ensure(1);
+        buffer.put((byte) '[');
+        for (int i = from; i < to; i++) {
+            ensure(MAX_RECORD_LENGTH);
+            if (i > from) {
+                buffer.put((byte) ',');
+                buffer.put((byte) ' ');
+            }
+            putNumber(RecordStore.areaNumber(records[i]));
+            buffer.put((byte) ':');
+            putNumber(RecordStore.status(records[i]));
+        }
+        ensure(1);
+        buffer.put((byte) ']');
+    }
 
-            printBoth(writer, console, "\nTabela de Resumo (Tempo Médio, Comparações e Trocas):");
-            printBoth(writer, console, "-------------------------------------------------------");
-            printBoth(writer, console, String.format("%-15s %-20s %-15s %-15s", "Algoritmo", "Tempo Médio (ms)", "Comparações", "Trocas"));
+    private void putNumber(long value) {
+        if (value < 0) {
+            buffer.put((byte) '-');
+            value = -value;
+        }
+        int length = 0;
+        do {
+            digits[length++] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value > 0);
+        while (length > 0) {
+            buffer.put(digits[--length]);
+        }
+    }
 
+    private void put(byte[] bytes) throws IOException {
+        int offset = 0;
+        while (offset < bytes.length) {
+            ensure(1);
+            int length = Math.min(buffer.remaining(), bytes.length - offset);
+            buffer.put(bytes, offset, length);
+            offset += length;
+        }
+    }
 
-            for (String algorithmName : executionTimes.keySet()) {
-                List<Double> times = executionTimes.get(algorithmName);
+    private void ensure(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
 
-                if (times.isEmpty()) {
-                    printBoth(writer, console, algorithmName + " - Nenhum tempo registrado.");
-                    continue;
-                }
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
 
-                double averageMs = calculateAverage(times);
-                long avgComparisons = totalComparisons.getOrDefault(algorithmName, 0L);
-                long avgSwaps = totalSwaps.getOrDefault(algorithmName, 0L);
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+}
 
+class StateCatalog {
+    public static final String[] STATE_NAMES = {"Amazonas", "Pará", "Mato Grosso", "Rondônia", "Maranhão"};
+    public static final String[] STATUS_NAMES = {"Outro", "Preservado", "Queimado", "Desmatado"};
+    public static final int MIN_AREA_NUMBER = 1;
+    public static final int[] STATE_UPPER_BOUNDS = {3_130_000, 5_640_000, 7_400_000, 8_060_000, 10_000_000};
 
-                averageTimes.put(algorithmName, averageMs);
+    private static final int OUTSIDE = STATE_NAMES.length;
+    private static final int CHUNK_SIZE = 1 << 18;
 
+    private final RecordStore data;
+    private final int[][] counts;
+    private final int[] stateStarts;
 
-                printBoth(writer, console, String.format("%-15s %-20.2f %-15d %-15d", algorithmName, averageMs, avgComparisons, avgSwaps));
-            }
+    private StateCatalog(RecordStore data, int[][] counts, int[] stateStarts) {
+        this.data = data;
+        this.counts = counts;
+        this.stateStarts = stateStarts;
+    }
 
+    public static int stateIndexOf(int areaNumber) {
+        if (areaNumber < MIN_AREA_NUMBER || areaNumber > STATE_UPPER_BOUNDS[STATE_UPPER_BOUNDS.length - 1]) return -1;
+        int low = 0;
+        int high = STATE_UPPER_BOUNDS.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (areaNumber <= STATE_UPPER_BOUNDS[mid]) high = mid;
+            else low = mid + 1;
+        }
+        return low;
+    }
 
-            for (Map.Entry<String, List<Double>> entry : executionTimes.entrySet()) {
-                String algorithmName = entry.getKey();
-                List<Double> times = entry.getValue();
+    public static String fileNameOf(int state) {
+        return java.text.Normalizer.normalize(STATE_NAMES[state], java.text.Normalizer.Form.NFD).replaceAll("\\p{M}", "").replace(' ', '_');
+    }
 
-                if (times.isEmpty()) {
-                    printBoth(writer, console, algorithmName + " - Nenhum tempo registrado.");
-                    continue;
-                }
+    public static int stateLowerBound(int state) {
+        return state == 0 ? MIN_AREA_NUMBER : STATE_UPPER_BOUNDS[state - 1] + 1;
+    }
 
-                double averageMs = calculateAverage(times);
-                double medianMs = calculateMedian(times);
-                double stdDevMs = stdDeviations.get(algorithmName);
-                printBoth(writer, console, "\n" + algorithmName + " - Tempo Médio: " + String.format("%.2f", averageMs) + " ms, Mediana: " + String.format("%.2f", medianMs) + " ms, Desvio Padrão: " + String.format("%.2f", stdDevMs) + " ms");
-                printBoth(writer, console, algorithmName + " - Comparações Médias: " + totalComparisons.get(algorithmName) + ", Trocas Médias: " + totalSwaps.get(algorithmName));
+    public static int statusIndexOf(int status) {
+        return status >= 1 && status < STATUS_NAMES.length ? status : 0;
+    }
 
+    public static boolean isSortedByArea(RecordStore data) {
+        long[] records = data.records();
+        for (int i = 1; i < records.length; i++) {
+            if (RecordStore.areaNumber(records[i - 1]) > RecordStore.areaNumber(records[i])) return false;
+        }
+        return true;
+    }
 
-                printBoth(writer, console, "\nDistribuição de Tempo de Execução por Iteração:");
-                for (int i = 0; i < times.size(); i++) {
-                    printBoth(writer, console, "Iteração " + (i + 1) + ": " + String.format("%.2f", times.get(i)) + " ms");
+    public static StateCatalog build(RecordStore sortedData) {
+        long[] records = sortedData.records();
+        int n = records.length;
+
+        List<Callable<int[][]>> tasks = new ArrayList<>();
+        for (int from = 0; from < n; from += CHUNK_SIZE) {
+            int start = from;
+            int end = Math.min(from + CHUNK_SIZE, n);
+            tasks.add(() -> {
+                int[][] local = new int[STATE_NAMES.length + 1][STATUS_NAMES.length];
+                for (int i = start; i < end; i++) {
+                    int state = stateIndexOf(RecordStore.areaNumber(records[i]));
+                    local[state < 0 ? OUTSIDE : state][statusIndexOf(RecordStore.status(records[i]))]++;
                 }
+                return local;
+            });
+        }
 
-                double highOutlierThreshold = averageMs + 2 * stdDevMs;
-                double lowOutlierThreshold = averageMs - 2 * stdDevMs;
-                printBoth(writer, console, "\nAnálise de Outliers:");
-                for (double time : times) {
-                    if (time > highOutlierThreshold) {
-                        printBoth(writer, console, "Tempo de Execução Alto Anômalo: " + String.format("%.2f", time) + " ms (acima de " + String.format("%.2f", highOutlierThreshold) + " ms)");
-                    } else if (time < lowOutlierThreshold) {
-                        printBoth(writer, console, "Tempo de Execução Baixo Anômalo: " + String.format("%.2f", time) + " ms (abaixo de " + String.format("%.2f", lowOutlierThreshold) + " ms)");
+        int[][] counts = new int[STATE_NAMES.length + 1][STATUS_NAMES.length];
+        try {
+            for (int[][] local : ParallelUtils.invokeAll(tasks)) {
+                for (int state = 0; state < counts.length; state++) {
+                    for (int status = 0; status < STATUS_NAMES.length; status++) {
+                        counts[state][status] += local[state][status];
                     }
                 }
-                printBoth(writer, console, "");
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Catalogação interrompida");
+        }
 
+        int[] stateStarts = new int[STATE_NAMES.length + 1];
+        for (int state = 0; state < STATE_NAMES.length; state++) {
+            stateStarts[state] = lowerBound(records, stateLowerBound(state));
+        }
+        stateStarts[STATE_NAMES.length] = lowerBound(records, STATE_UPPER_BOUNDS[STATE_UPPER_BOUNDS.length - 1] + 1);
+        return new StateCatalog(sortedData, counts, stateStarts);
+    }
 
-            String bestAlgorithm = Collections.min(averageTimes.entrySet(), Map.Entry.comparingByValue()).getKey();
-            double bestTime = averageTimes.get(bestAlgorithm);
+    static int lowerBound(long[] records, int areaNumber) {
+        int low = 0;
+        int high = records.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (RecordStore.areaNumber(records[mid]) < areaNumber) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
 
-            printBoth(writer, console, "\nAlgoritmo mais eficiente: " + bestAlgorithm);
-            for (Map.Entry<String, Double> entry : averageTimes.entrySet()) {
-                String algorithmName = entry.getKey();
-                double time = entry.getValue();
-                if (!algorithmName.equals(bestAlgorithm)) {
-                    double efficiencyRatio = time / bestTime;
-                    double timeDifference = time - bestTime;
-                    printBoth(writer, console, algorithmName + " foi " + String.format("%.2f", efficiencyRatio) + " vezes mais lento que " + bestAlgorithm + ", diferença de " + String.format("%.2f", timeDifference) + " ms");
-                }
-            }
+    public RecordStore data() {
+        return data;
+    }
 
+    public int stateStart(int state) {
+        return stateStarts[state];
+    }
 
-            String lowestStdDevAlgorithm = Collections.min(stdDeviations.entrySet(), Map.Entry.comparingByValue()).getKey();
-            printBoth(writer, console, "\nAlgoritmo com menor desvio padrão: " + lowestStdDevAlgorithm + " (Desvio Padrão: " + String.format("%.2f", stdDeviations.get(lowestStdDevAlgorithm)) + " ms)");
+    public int stateEnd(int state) {
+        return stateStarts[state + 1];
+    }
 
+    public int stateCount(int state) {
+        return Arrays.stream(counts[state]).sum();
+    }
 
-            printBoth(writer, console, "\nComparação Gráfica de Tempo de Execução:");
-            for (Map.Entry<String, Double> entry : averageTimes.entrySet()) {
-                String algorithmName = entry.getKey();
-                double relativeTime = entry.getValue() / bestTime;
-                int barLength = (int) (relativeTime * 20);
-                printBoth(writer, console, String.format("%-15s | %s (%.2f ms)", algorithmName, "=".repeat(barLength), entry.getValue()));
-            }
+    public int count(int state, int status) {
+        return counts[state][statusIndexOf(status)];
+    }
 
+    public int outsideCount() {
+        return stateCount(OUTSIDE);
+    }
 
-            double minBaseline = 30.0;
-            printBoth(writer, console, "\n------------------------------------------------------------");
-            printBoth(writer, console, "Tabela de Avaliação (0-100)");
-            printBoth(writer, console, "------------------------------------------------------------");
-            printBoth(writer, console, String.format("%-15s %-15s %-15s %-15s", "Algoritmo", "Nota Tempo", "Nota Comp.", "Nota Final"));
+    public int statusTotal(int status) {
+        int total = 0;
+        for (int[] stateCounts : counts) total += stateCounts[statusIndexOf(status)];
+        return total;
+    }
+}
 
-            for (String algorithmName : averageTimes.keySet()) {
-                double timeScore = calculateScore(averageTimes.get(algorithmName), minBaseline, calculateMinMax(averageTimes));
-                double comparisonScore = calculateScore(totalComparisons.getOrDefault(algorithmName, 0L), minBaseline, calculateMinMax(totalComparisons));
-                double swapScore = calculateScore(totalSwaps.getOrDefault(algorithmName, 0L), minBaseline, calculateMinMax(totalSwaps));
-                double finalScore = (timeScore * 0.9) + (comparisonScore * 0.05) + (swapScore * 0.05);
+class RangeIndex {
+    public static final String EXTENSION = ".idx";
 
-                printBoth(writer, console, String.format("%-15s %-15.2f %-15.2f %-15.2f", algorithmName, timeScore, comparisonScore, finalScore));
-            }
+    private static final int MAGIC = 0x52494458;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 32;
+    private static final int BLOCK_SIZE = 64;
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
 
+    private final long[] records;
+    private final int[][] statusPrefix;
 
-            printBoth(writer, console, "\n------------------------------------------------------------");
-            printBoth(writer, console, "Resumo");
-            printBoth(writer, console, "------------------------------------------------------------");
-            printBoth(writer, console, "Algoritmo mais eficiente: " + bestAlgorithm + " (Tempo Médio: " + String.format("%.2f", bestTime) + " ms)");
-            printBoth(writer, console, "Algoritmo com menor desvio padrão: " + lowestStdDevAlgorithm + " (Desvio Padrão: " + String.format("%.2f", stdDeviations.get(lowestStdDevAlgorithm)) + " ms)");
-            printBoth(writer, console, "\nRecomendações para Cenários Específicos:");
-            printBoth(writer, console, "------------------------------------------------------------");
+    private RangeIndex(long[] records, int[][] statusPrefix) {
+        this.records = records;
+        this.statusPrefix = statusPrefix;
+    }
 
-            if (bestAlgorithm.equals("MergeSort")) {
-                printBoth(writer, console, "MergeSort é recomendado para conjuntos de dados grandes devido à sua consistência e estabilidade.");
-            }
-            if (bestAlgorithm.equals("QuickSort")) {
-                printBoth(writer, console, "QuickSort é ideal para conjuntos de dados parcialmente ordenados ou pequenos, pois tende a ser mais rápido nesses casos.");
-            }
-            if (bestAlgorithm.equals("HeapSort")) {
-                printBoth(writer, console, "HeapSort é indicado para dados aleatórios onde a estabilidade não é um requisito.");
+    public static RangeIndex build(RecordStore sortedData) {
+        if (!StateCatalog.isSortedByArea(sortedData)) {
+            throw new IllegalArgumentException("Os dados precisam estar ordenados por número de área para construir o índice");
+        }
+
+        long[] records = sortedData.records();
+        int blocks = records.length / BLOCK_SIZE + 1;
+        int[][] statusPrefix = new int[StateCatalog.STATUS_NAMES.length][blocks];
+        int[] running = new int[StateCatalog.STATUS_NAMES.length];
+        for (int i = 0; i < records.length; i++) {
+            if (i % BLOCK_SIZE == 0) {
+                for (int status = 0; status < running.length; status++) statusPrefix[status][i / BLOCK_SIZE] = running[status];
             }
+            running[StateCatalog.statusIndexOf(RecordStore.status(records[i]))]++;
+        }
+        if (records.length % BLOCK_SIZE == 0) {
+            for (int status = 0; status < running.length; status++) statusPrefix[status][blocks - 1] = running[status];
+        }
+        return new RangeIndex(records, statusPrefix);
+    }
 
-            printBoth(writer, console, "\nPara dados com grande variação, é recomendável usar algoritmos com menor desvio padrão (ex.: " + lowestStdDevAlgorithm + ").");
+    public static Path indexPathFor(Path sortedFile) {
+        String name = sortedFile.getFileName().toString().replaceFirst("\\.[^.]*$", "");
+        return sortedFile.resolveSibling(name + EXTENSION);
+    }
 
-            System.out.println("Relatório salvo em: " + reportFile.getAbsolutePath());
-            System.out.println("\n");
-        } catch (IOException e) {
-            System.out.println("Erro ao salvar o relatório: " + e.getMessage());
-        }
+    public int size() {
+        return records.length;
     }
 
+    public RecordStore data() {
+        return new RecordStore(records);
+    }
 
-    private void printBoth(PrintWriter writer, PrintStream console, String text) {
-        writer.println(text);
-        console.println(text);
+    public long[] lookup(int areaNumber) {
+        return Arrays.copyOfRange(records, StateCatalog.lowerBound(records, areaNumber), upperBound(areaNumber));
     }
 
+    public boolean contains(int areaNumber) {
+        int position = StateCatalog.lowerBound(records, areaNumber);
+        return position < records.length && RecordStore.areaNumber(records[position]) == areaNumber;
+    }
 
-    private double calculateMedian(List<Double> values) {
-        Collections.sort(values);
-        int middle = values.size() / 2;
-        if (values.size() % 2 == 0) {
-            return (values.get(middle - 1) + values.get(middle)) / 2.0;
-        } else {
-            return values.get(middle);
-        }
+    public int count(int fromArea, int toArea) {
+        if (fromArea > toArea) return 0;
+        return upperBound(toArea) - StateCatalog.lowerBound(records, fromArea);
     }
 
+    public long[] list(int fromArea, int toArea) {
+        if (fromArea > toArea) return new long[0];
+        return Arrays.copyOfRange(records, StateCatalog.lowerBound(records, fromArea), upperBound(toArea));
+    }
 
-    private <T extends Number & Comparable<T>> MinMax calculateMinMax(Map<String, T> data) {
-        T max = Collections.max(data.values());
-        T min = Collections.min(data.values());
-        return new MinMax(min.doubleValue(), max.doubleValue());
+    public int count(int fromArea, int toArea, int status) {
+        if (fromArea > toArea) return 0;
+        int statusIndex = StateCatalog.statusIndexOf(status);
+        return countBefore(upperBound(toArea), statusIndex) - countBefore(StateCatalog.lowerBound(records, fromArea), statusIndex);
     }
 
+    public int stateTotal(int state) {
+        return count(StateCatalog.stateLowerBound(state), StateCatalog.STATE_UPPER_BOUNDS[state]);
+    }
 
+    public int stateTotal(int state, int status) {
+        return count(StateCatalog.stateLowerBound(state), StateCatalog.STATE_UPPER_BOUNDS[state], status);
+    }
 
-    private double calculateScore(double value, double minBaseline, MinMax minMax) {
-        return (minMax.max > minMax.min) ? Math.max((1 - (value - minMax.min) / (minMax.max - minMax.min)) * 100, minBaseline) : 100;
+    private int upperBound(int areaNumber) {
+        int low = 0;
+        int high = records.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (RecordStore.areaNumber(records[mid]) <= areaNumber) low = mid + 1;
+            else high = mid;
+        }
+        return low;
     }
 
+    private int countBefore(int position, int statusIndex) {
+        int block = position / BLOCK_SIZE;
+        int count = statusPrefix[statusIndex][block];
+        for (int i = block * BLOCK_SIZE; i < position; i++) {
+            if (StateCatalog.statusIndexOf(RecordStore.status(records[i])) == statusIndex) count++;
+        }
+        return count;
+    }
 
-    private static class MinMax {
-        double min, max;
-        MinMax(double min, double max) {
-            this.min = min;
-            this.max = max;
+    public void save(Path file) throws IOException {
+        CRC32 checksum = new CRC32();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            channel.position(HEADER_SIZE);
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(BYTE_ORDER);
+            for (long record : records) {
+                if (buffer.remaining() < Long.BYTES) flush(channel, buffer, checksum);
+                buffer.putLong(record);
+            }
+            for (int[] prefix : statusPrefix) {
+                for (int value : prefix) {
+                    if (buffer.remaining() < Integer.BYTES) flush(channel, buffer, checksum);
+                    buffer.putInt(value);
+                }
+            }
+            flush(channel, buffer, checksum);
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(BYTE_ORDER);
+            header.putInt(MAGIC)
+                    .putInt(VERSION)
+                    .putLong(records.length)
+                    .putLong(checksum.getValue())
+                    .putInt(BLOCK_SIZE)
+                    .putInt(statusPrefix.length)
+                    .flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
         }
     }
 
-}
+    public static RangeIndex load(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(BYTE_ORDER);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+            }
+            if (header.hasRemaining()) {
+                throw new IOException("Índice inválido: cabeçalho incompleto em " + file);
+            }
+            header.flip();
 
+            int magic = header.getInt();
+            int version = header.getInt();
+            long count = header.getLong();
+            long expectedChecksum = header.getLong();
+            int blockSize = header.getInt();
+            int statuses = header.getInt();
 
-class SortingUtils {
-    public static void insertionSort(String[] array, int low, int high, Statistics stats) {
-        for (int i = low + 1; i <= high; i++) {
-            String key = array[i];
-            int j = i - 1;
-            while (j >= low && compare(array[j], key) > 0) {
-                stats.incrementComparisons();
-                array[j + 1] = array[j];
-                j--;
-                stats.incrementSwaps();
+            if (magic != MAGIC) {
+                throw new IOException("Índice inválido: assinatura desconhecida em " + file);
             }
-            array[j + 1] = key;
+            if (version != VERSION || blockSize != BLOCK_SIZE || statuses != StateCatalog.STATUS_NAMES.length) {
+                throw new IOException("Versão de índice não suportada: " + version);
+            }
+            int blocks = (int) (count / BLOCK_SIZE + 1);
+            if (count < 0 || count > Integer.MAX_VALUE - 8
+                    || channel.size() != HEADER_SIZE + count * Long.BYTES + (long) statuses * blocks * Integer.BYTES) {
+                throw new IOException("Índice inválido: tamanho não corresponde a " + count + " registros");
+            }
+
+            long[] records = new long[(int) count];
+            int[][] statusPrefix = new int[statuses][blocks];
+            CRC32 checksum = new CRC32();
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(BYTE_ORDER);
+            buffer.limit(0);
+            for (int i = 0; i < records.length; i++) {
+                if (buffer.remaining() < Long.BYTES) fill(channel, buffer, checksum);
+                records[i] = buffer.getLong();
+            }
+            for (int[] prefix : statusPrefix) {
+                for (int i = 0; i < blocks; i++) {
+                    if (buffer.remaining() < Integer.BYTES) fill(channel, buffer, checksum);
+                    prefix[i] = buffer.getInt();
+                }
+            }
+
+            if (checksum.getValue() != expectedChecksum) {
+                throw new IOException("Checksum inválido no índice " + file);
+            }
+            return new RangeIndex(records, statusPrefix);
         }
     }
 
-    private static int compare(String a, String b) {
-        return Integer.compare(extractNumericPart(a), extractNumericPart(b));
+    private static void flush(FileChannel channel, ByteBuffer buffer, CRC32 checksum) throws IOException {
+        buffer.flip();
+        checksum.update(buffer.duplicate());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
     }
 
-    private static int extractNumericPart(String data) {
-        return Integer.parseInt(data.split(":")[0]);
+    private static void fill(FileChannel channel, ByteBuffer buffer, CRC32 checksum) throws IOException {
+        buffer.compact();
+        int start = buffer.position();
+        while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+        }
+        buffer.flip();
+        checksum.update(buffer.slice(start, buffer.limit() - start));
     }
 }
 
+class RecordStore {
+    private final long[] records;
 
+    public RecordStore(int size) {
+        this.records = new long[size];
+    }
 
+    public RecordStore(long[] records) {
+        this.records = records;
+    }
 
+    public static long pack(int areaNumber, int status) {
+        return ((long) areaNumber << 32) | (status & 0xFFFFFFFFL);
+    }
 
-class Timer {
-    public static double measureTimeMs(Runnable algorithm) {
-        long startTime = System.nanoTime();
-        algorithm.run();
-        long endTime = System.nanoTime();
-        return (endTime - startTime) / 1_000_000.0;
+    public static int areaNumber(long record) {
+        return (int) (record >> 32);
     }
-}
 
-class QuickSort implements SortingAlgorithm {
-    private static final int INSERTION_SORT_THRESHOLD = 32;
-    private final boolean showSteps;
+    public static int status(long record) {
+        return (int) record;
+    }
 
+    public static long parse(String text) {
+        int separator = text.indexOf(':');
+        if (separator < 0) {
+            throw new NumberFormatException("Separador ':' ausente em \"" + text + "\"");
+        }
+        int areaNumber = Integer.parseInt(text, 0, separator, 10);
+        int status = Integer.parseInt(text, separator + 1, text.length(), 10);
+        return pack(areaNumber, status);
+    }
 
-    public QuickSort() {
-        this.showSteps = false;
+    public static String format(long record) {
+        return areaNumber(record) + ":" + status(record);
     }
 
+    public int size() {
+        return records.length;
+    }
 
-    public QuickSort(boolean showSteps) {
-        this.showSteps = showSteps;
+    public long get(int index) {
+        return records[index];
     }
 
-    @Override
-    public void sort(String[] array, AtomicBoolean cancelFlag, Statistics stats) {
-        quickSortIterative(array, cancelFlag, stats);
+    public void set(int index, long record) {
+        records[index] = record;
     }
 
-    private void quickSortIterative(String[] array, AtomicBoolean cancelFlag, Statistics stats) {
-        if (cancelFlag.get()) return;
+    public long[] records() {
+        return records;
+    }
 
-        Stack<int[]> stack = new Stack<>();
-        stack.push(new int[]{0, array.length - 1});
+    public RecordStore copy() {
+        return new RecordStore(Arrays.copyOf(records, records.length));
+    }
 
-        while (!stack.isEmpty()) {
-            if (cancelFlag.get()) return;
+    public String toString(int from, int to) {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = from; i < to; i++) {
+            if (i > from) builder.append(", ");
+            builder.append(areaNumber(records[i])).append(':').append(status(records[i]));
+        }
+        return builder.append(']').toString();
+    }
 
-            int[] range = stack.pop();
-            int low = range[0];
-            int high = range[1];
+    @Override
+    public String toString() {
+        return toString(0, records.length);
+    }
+}
 
-            if (high - low <= INSERTION_SORT_THRESHOLD) {
-                SortingUtils.insertionSort(array, low, high, stats);
-                continue;
-            }
+class BinaryDataset {
+    public static final String EXTENSION = ".bin";
 
-            int pivotIndex = medianOfThreePartition(array, low, high, stats);
+    private static final int MAGIC = 0x47454F53;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 32;
+    private static final int RECORD_SIZE = Long.BYTES;
+    private static final int RECORDS_PER_WINDOW = 1 << 26;
+    private static final int DEFAULT_BUFFER_RECORDS = 1 << 13;
+    private static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
 
-            if (pivotIndex - 1 - low > high - pivotIndex - 1) {
-                stack.push(new int[]{low, pivotIndex - 1});
-                stack.push(new int[]{pivotIndex + 1, high});
-            } else {
-                stack.push(new int[]{pivotIndex + 1, high});
-                stack.push(new int[]{low, pivotIndex - 1});
+    public static boolean isBinaryDataset(String fileName) throws IOException {
+        try (FileChannel channel = FileChannel.open(Path.of(fileName), StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) return false;
+
+            ByteBuffer magic = ByteBuffer.allocate(Integer.BYTES).order(BYTE_ORDER);
+            while (magic.hasRemaining() && channel.read(magic, magic.position()) >= 0) {
             }
+            return magic.getInt(0) == MAGIC;
         }
     }
 
-    private int medianOfThreePartition(String[] array, int low, int high, Statistics stats) {
-        int mid = low + (high - low) / 2;
+    public static void save(String fileName, RecordStore data) throws IOException {
+        long[] records = data.records();
+        CRC32 checksum = new CRC32();
+
+        try (FileChannel channel = FileChannel.open(Path.of(fileName), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            for (int from = 0; from < records.length; from += RECORDS_PER_WINDOW) {
+                int length = Math.min(RECORDS_PER_WINDOW, records.length - from);
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_WRITE,
+                        HEADER_SIZE + (long) from * RECORD_SIZE, (long) length * RECORD_SIZE);
+                window.order(BYTE_ORDER).asLongBuffer().put(records, from, length);
+                checksum.update(window);
+            }
 
-        if (compare(array[low], array[mid]) > 0) swap(array, low, mid, stats);
-        if (compare(array[low], array[high]) > 0) swap(array, low, high, stats);
-        if (compare(array[mid], array[high]) > 0) swap(array, mid, high, stats);
+            writeHeader(channel, records.length, checksum.getValue());
+        }
+    }
 
-        String pivot = array[mid];
-        swap(array, mid, high - 1, stats);
-        int i = low;
-        int j = high - 1;
+    public static RecordStore load(String fileName) throws IOException {
+        try (FileChannel channel = FileChannel.open(Path.of(fileName), StandardOpenOption.READ)) {
+            long[] header = readHeader(channel, fileName);
+            long count = header[0];
+            long expectedChecksum = header[1];
+            if (count > Integer.MAX_VALUE - 8) {
+                throw new IOException("Arquivo binário grande demais para a memória: " + count + " registros");
+            }
 
-        while (true) {
-            while (compare(array[++i], pivot) < 0) if (i == high - 1) break;
-            while (compare(array[--j], pivot) > 0) if (j == low) break;
-            if (i >= j) break;
-            swap(array, i, j, stats);
+            long[] records = new long[(int) count];
+            CRC32 checksum = new CRC32();
+            for (int from = 0; from < records.length; from += RECORDS_PER_WINDOW) {
+                int length = Math.min(RECORDS_PER_WINDOW, records.length - from);
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY,
+                        HEADER_SIZE + (long) from * RECORD_SIZE, (long) length * RECORD_SIZE);
+                window.order(BYTE_ORDER).asLongBuffer().get(records, from, length);
+                checksum.update(window);
+            }
+
+            if (checksum.getValue() != expectedChecksum) {
+                throw new IOException("Checksum inválido no arquivo binário " + fileName);
+            }
+            return new RecordStore(records);
         }
-        swap(array, i, high - 1, stats);
-        return i;
     }
 
-    private void swap(String[] array, int i, int j, Statistics stats) {
-        String temp = array[i];
-        array[i] = array[j];
-        array[j] = temp;
-        stats.incrementSwaps();
-        if (showSteps) {
-            System.out.printf("Troca realizada: %s <-> %s\n", array[i], array[j]);
-        }
+    public static void convertTextFile(String textFileName, String binaryFileName) throws IOException {
+        save(binaryFileName, DataLoader.loadDataFromFile(textFileName));
     }
 
-    private int compare(String a, String b) {
-        int result = Integer.compare(extractNumericPart(a), extractNumericPart(b));
-        if (showSteps) {
-            System.out.printf("Comparação realizada: %s e %s (resultado: %d)\n", a, b, result);
+    private static void writeHeader(FileChannel channel, long count, long checksum) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(BYTE_ORDER);
+        header.putInt(MAGIC)
+                .putInt(VERSION)
+                .putLong(count)
+                .putLong(checksum)
+                .putInt(RECORD_SIZE)
+                .putInt(0)
+                .flip();
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
         }
-        return result;
     }
 
-    private int extractNumericPart(String data) {
-        return Integer.parseInt(data.split(":")[0]);
-    }
-}
+    private static long[] readHeader(FileChannel channel, String fileName) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(BYTE_ORDER);
+        while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+        }
+        if (header.hasRemaining()) {
+            throw new IOException("Arquivo binário inválido: cabeçalho incompleto em " + fileName);
+        }
+        header.flip();
 
-class MergeSort implements SortingAlgorithm {
-    private static final int INSERTION_SORT_THRESHOLD = 32;
+        int magic = header.getInt();
+        int version = header.getInt();
+        long count = header.getLong();
+        long checksum = header.getLong();
+        int recordSize = header.getInt();
 
-    @Override
-    public void sort(String[] array, AtomicBoolean cancelFlag, Statistics stats) {
-        String[] aux = new String[array.length];
-        System.arraycopy(array, 0, aux, 0, array.length);
-        mergeSort(array, aux, 0, array.length - 1, cancelFlag, stats);
+        if (magic != MAGIC) {
+            throw new IOException("Arquivo binário inválido: assinatura desconhecida em " + fileName);
+        }
+        if (version != VERSION || recordSize != RECORD_SIZE) {
+            throw new IOException("Versão de arquivo binário não suportada: " + version);
+        }
+        if (count < 0 || channel.size() != HEADER_SIZE + count * RECORD_SIZE) {
+            throw new IOException("Arquivo binário inválido: tamanho não corresponde a " + count + " registros");
+        }
+        return new long[]{count, checksum};
     }
 
-    private void mergeSort(String[] array, String[] aux, int left, int right, AtomicBoolean cancelFlag, Statistics stats) {
-        if (left >= right || cancelFlag.get()) return;
+    static class Reader implements RecordReader {
+        private final String fileName;
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private final CRC32 checksum = new CRC32();
+        private final long count;
+        private final long expectedChecksum;
+        private long remaining;
+
+        Reader(String fileName) throws IOException {
+            this(fileName, DEFAULT_BUFFER_RECORDS);
+        }
 
-        if (right - left <= INSERTION_SORT_THRESHOLD) {
-            SortingUtils.insertionSort(array, left, right, stats);
-            return;
+        Reader(String fileName, int bufferRecords) throws IOException {
+            this.fileName = fileName;
+            this.channel = FileChannel.open(Path.of(fileName), StandardOpenOption.READ);
+            try {
+                long[] header = readHeader(channel, fileName);
+                this.count = header[0];
+                this.expectedChecksum = header[1];
+                channel.position(HEADER_SIZE);
+            } catch (IOException e) {
+                channel.close();
+                throw e;
+            }
+            this.remaining = count;
+            this.buffer = ByteBuffer.allocateDirect(bufferRecords * RECORD_SIZE).order(BYTE_ORDER);
+            this.buffer.limit(0);
         }
 
-        int middle = left + (right - left) / 2;
-        mergeSort(aux, array, left, middle, cancelFlag, stats);
-        mergeSort(aux, array, middle + 1, right, cancelFlag, stats);
+        public long count() {
+            return count;
+        }
 
-        if (compare(aux[middle], aux[middle + 1]) <= 0) {
-            System.arraycopy(aux, left, array, left, right - left + 1);
-            return;
+        @Override
+        public int read(long[] target, int offset, int length) throws IOException {
+            if (remaining == 0) return -1;
+
+            int total = 0;
+            while (total < length && remaining > 0) {
+                if (!buffer.hasRemaining()) {
+                    fill();
+                }
+                int available = (int) Math.min(Math.min(buffer.remaining() / RECORD_SIZE, length - total), remaining);
+                buffer.asLongBuffer().get(target, offset + total, available);
+                buffer.position(buffer.position() + available * RECORD_SIZE);
+                total += available;
+                remaining -= available;
+            }
+
+            if (remaining == 0 && checksum.getValue() != expectedChecksum) {
+                throw new IOException("Checksum inválido no arquivo binário " + fileName);
+            }
+            return total;
+        }
+
+        private void fill() throws IOException {
+            buffer.clear();
+            if (remaining * RECORD_SIZE < buffer.capacity()) {
+                buffer.limit((int) (remaining * RECORD_SIZE));
+            }
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    throw new IOException("Arquivo binário truncado: " + fileName);
+                }
+            }
+            buffer.flip();
+            checksum.update(buffer.duplicate());
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
         }
-        merge(array, aux, left, middle, right, stats);
     }
 
-    private void merge(String[] array, String[] aux, int left, int middle, int right, Statistics stats) {
-        int i = left, j = middle + 1;
-        for (int k = left; k <= right; k++) {
-            stats.incrementComparisons();
-            if (i > middle) array[k] = aux[j++];
-            else if (j > right) array[k] = aux[i++];
-            else if (compare(aux[i], aux[j]) <= 0) array[k] = aux[i++];
-            else array[k] = aux[j++];
-            stats.incrementSwaps();
+    static class Writer implements RecordWriter {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private final CRC32 checksum = new CRC32();
+        private long count;
+
+        Writer(String fileName) throws IOException {
+            this(fileName, DEFAULT_BUFFER_RECORDS);
+        }
+
+        Writer(String fileName, int bufferRecords) throws IOException {
+            this.channel = FileChannel.open(Path.of(fileName), StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+            this.channel.position(HEADER_SIZE);
+            this.buffer = ByteBuffer.allocateDirect(bufferRecords * RECORD_SIZE).order(BYTE_ORDER);
+        }
+
+        @Override
+        public void write(long record) throws IOException {
+            if (buffer.remaining() < RECORD_SIZE) {
+                flush();
+            }
+            buffer.putLong(record);
+            count++;
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            checksum.update(buffer.duplicate());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                flush();
+                writeHeader(channel, count, checksum.getValue());
+            } finally {
+                channel.close();
+            }
         }
     }
+}
+
+interface RecordReader extends Closeable {
+    int read(long[] buffer, int offset, int length) throws IOException;
+}
+
+interface RecordWriter extends Closeable {
+    void write(long record) throws IOException;
 
-    private int compare(String a, String b) {
-        return Integer.compare(extractNumericPart(a), extractNumericPart(b));
+    default void write(long[] records, int offset, int length) throws IOException {
+        for (int i = offset; i < offset + length; i++) {
+            write(records[i]);
+        }
     }
+}
+
+interface SortingAlgorithm {
+    void sort(RecordStore records, AtomicBoolean cancelFlag, Statistics stats);
 
-    private int extractNumericPart(String data) {
-        return Integer.parseInt(data.split(":")[0]);
+    default Statistics createStatistics() {
+        return new CountingStatistics();
     }
 }
 
-class HeapSort implements SortingAlgorithm {
-    @Override
-    public void sort(String[] array, AtomicBoolean cancelFlag, Statistics stats) {
-        int n = array.length;
+interface Statistics {
+    void incrementComparisons();
 
+    void incrementSwaps();
 
-        for (int i = n / 2 - 1; i >= 0 && !cancelFlag.get(); i--) {
-            siftDown(array, i, n, stats);
-        }
+    void addComparisons(long count);
 
-        for (int i = n - 1; i > 0 && !cancelFlag.get(); i--) {
-            swap(array, 0, i, stats);
-            siftDown(array, 0, i, stats);
-        }
+    void addSwaps(long count);
+
+    long getComparisons();
+
+    long getSwaps();
+
+    void reset();
+
+    Statistics fork();
+
+    default void add(Statistics other) {
+        if (other == this) return;
+        addComparisons(other.getComparisons());
+        addSwaps(other.getSwaps());
     }
+}
 
-    private void siftDown(String[] array, int i, int n, Statistics stats) {
-        while (true) {
-            int largest = i;
-            int left = 2 * i + 1;
-            int right = 2 * i + 2;
+final class NoOpStatistics implements Statistics {
+    public static final NoOpStatistics INSTANCE = new NoOpStatistics();
 
-            if (left < n && compare(array[left], array[largest]) > 0) {
-                stats.incrementComparisons();
-                largest = left;
-            } else if (left < n) {
-                stats.incrementComparisons();
-            }
+    private NoOpStatistics() {
+    }
 
-            if (right < n && compare(array[right], array[largest]) > 0) {
-                stats.incrementComparisons();
-                largest = right;
-            } else if (right < n) {
-                stats.incrementComparisons();
-            }
+    @Override
+    public void incrementComparisons() {
+    }
 
-            if (largest == i) break;
+    @Override
+    public void incrementSwaps() {
+    }
 
-            swap(array, i, largest, stats);
-            i = largest;
-        }
+    @Override
+    public void addComparisons(long count) {
     }
 
-    private void swap(String[] array, int i, int j, Statistics stats) {
-        String temp = array[i];
-        array[i] = array[j];
-        array[j] = temp;
-        stats.incrementSwaps();
+    @Override
+    public void addSwaps(long count) {
+    }
+
+    @Override
+    public long getComparisons() {
+        return 0;
+    }
+
+    @Override
+    public long getSwaps() {
+        return 0;
+    }
+
+    @Override
+    public void reset() {
+    }
+
+    @Override
+    public Statistics fork() {
+        return this;
+    }
+}
+
+final class CountingStatistics implements Statistics {
+    private long comparisons;
+    private long swaps;
+
+    @Override
+    public void incrementComparisons() {
+        comparisons++;
+    }
+
+    @Override
+    public void incrementSwaps() {
+        swaps++;
+    }
+
+    @Override
+    public void addComparisons(long count) {
+        comparisons += count;
+    }
+
+    @Override
+    public void addSwaps(long count) {
+        swaps += count;
+    }
+
+    @Override
+    public long getComparisons() {
+        return comparisons;
+    }
+
+    @Override
+    public long getSwaps() {
+        return swaps;
+    }
+
+    @Override
+    public void reset() {
+        comparisons = 0;
+        swaps = 0;
+    }
+
+    @Override
+    public Statistics fork() {
+        return new CountingStatistics();
+    }
+}
+
+final class ConcurrentStatistics implements Statistics {
+    private final LongAdder comparisons = new LongAdder();
+    private final LongAdder swaps = new LongAdder();
+
+    @Override
+    public void incrementComparisons() {
+        comparisons.increment();
+    }
+
+    @Override
+    public void incrementSwaps() {
+        swaps.increment();
+    }
+
+    @Override
+    public void addComparisons(long count) {
+        comparisons.add(count);
+    }
+
+    @Override
+    public void addSwaps(long count) {
+        swaps.add(count);
+    }
+
+    @Override
+    public long getComparisons() {
+        return comparisons.sum();
+    }
+
+    @Override
+    public long getSwaps() {
+        return swaps.sum();
+    }
+
+    @Override
+    public void reset() {
+        comparisons.reset();
+        swaps.reset();
+    }
+
+    @Override
+    public Statistics fork() {
+        return this;
+    }
+}
+
+class Measurement {
+    private static final double[] T_CRITICAL_95 = {12.706, 4.303, 3.182, 2.776, 2.571, 2.447, 2.365, 2.306, 2.262, 2.228, 2.201, 2.179, 2.160, 2.145, 2.131, 2.120, 2.110, 2.101, 2.093, 2.086, 2.080, 2.074, 2.069, 2.064, 2.060, 2.056, 2.052, 2.048, 2.045, 2.042};
+
+    private final List<Double> times = new ArrayList<>();
+    private final List<Boolean> gcNoise = new ArrayList<>();
+    private final List<Boolean> jitNoise = new ArrayList<>();
+    private final List<Long> allocations = new ArrayList<>();
+    private final boolean overlappingRounds;
+    private long comparisons;
+    private long swaps;
+
+    Measurement(boolean overlappingRounds) {
+        this.overlappingRounds = overlappingRounds;
+    }
+
+    void addRound(double timeMs, boolean gcDuringRound, boolean jitDuringRound, long allocatedBytes, long roundComparisons, long roundSwaps) {
+        times.add(timeMs);
+        gcNoise.add(gcDuringRound);
+        jitNoise.add(jitDuringRound);
+        allocations.add(allocatedBytes);
+        comparisons += roundComparisons;
+        swaps += roundSwaps;
+    }
+
+    public int size() {
+        return times.size();
+    }
+
+    public boolean isEmpty() {
+        return times.isEmpty();
+    }
+
+    public double time(int round) {
+        return times.get(round);
+    }
+
+    public boolean hadGc(int round) {
+        return gcNoise.get(round);
+    }
+
+    public boolean hadJit(int round) {
+        return jitNoise.get(round);
+    }
+
+    public long allocatedBytes(int round) {
+        return allocations.get(round);
+    }
+
+    public boolean hasOverlappingRounds() {
+        return overlappingRounds;
+    }
+
+    public int gcRounds() {
+        return Collections.frequency(gcNoise, true);
+    }
+
+    public int jitRounds() {
+        return Collections.frequency(jitNoise, true);
+    }
+
+    public long averageComparisons() {
+        return times.isEmpty() ? 0 : comparisons / times.size();
+    }
+
+    public long averageSwaps() {
+        return times.isEmpty() ? 0 : swaps / times.size();
+    }
+
+    public double mean() {
+        return times.stream().mapToDouble(Double::doubleValue).sum() / times.size();
+    }
+
+    public double standardDeviation() {
+        double mean = mean();
+        return (times.size() > 1) ? Math.sqrt(times.stream().mapToDouble(time -> (time - mean) * (time - mean)).sum() / (times.size() - 1)) : 0;
+    }
+
+    public double median() {
+        double[] sorted = sortedTimes();
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 0 ? (sorted[middle - 1] + sorted[middle]) / 2.0 : sorted[middle];
+    }
+
+    public double percentile(double percentile) {
+        double[] sorted = sortedTimes();
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(rank, sorted.length) - 1)];
+    }
+
+    public double confidenceHalfWidth95() {
+        int degreesOfFreedom = times.size() - 1;
+        if (degreesOfFreedom < 1) return 0;
+        double critical = degreesOfFreedom <= T_CRITICAL_95.length ? T_CRITICAL_95[degreesOfFreedom - 1] : 1.96;
+        return critical * standardDeviation() / Math.sqrt(times.size());
+    }
+
+    private double[] sortedTimes() {
+        double[] sorted = times.stream().mapToDouble(Double::doubleValue).toArray();
+        Arrays.sort(sorted);
+        return sorted;
+    }
+}
+
+class MeasurementEngine {
+    private final int warmupRounds;
+    private final int measuredRounds;
+
+    public MeasurementEngine(int warmupRounds, int measuredRounds) {
+        this.warmupRounds = warmupRounds;
+        this.measuredRounds = measuredRounds;
+    }
+
+    public int getWarmupRounds() {
+        return warmupRounds;
+    }
+
+    public int getMeasuredRounds() {
+        return measuredRounds;
+    }
+
+    public int totalRounds() {
+        return warmupRounds + measuredRounds;
+    }
+
+    public Measurement measure(SortingAlgorithm algorithm, RecordStore input, RecordStore work, AtomicBoolean cancelFlag, Statistics stats, boolean overlappingRounds, IntConsumer onRound) {
+        Measurement measurement = new Measurement(overlappingRounds);
+        int round = 0;
+
+        for (int i = 0; i < warmupRounds && !cancelFlag.get(); i++) {
+            runRound(algorithm, input, work, cancelFlag, stats);
+            stats.reset();
+            onRound.accept(round++);
+        }
+
+        for (int i = 0; i < measuredRounds && !cancelFlag.get(); i++) {
+            long gcBefore = gcCount();
+            long jitBefore = compilationTime();
+            long allocatedBefore = overlappingRounds ? -1 : allocatedBytes();
+            double timeMs = runRound(algorithm, input, work, cancelFlag, stats);
+            long allocated = allocatedBefore < 0 ? -1 : allocatedBytes() - allocatedBefore;
+            boolean gc = !overlappingRounds && gcCount() != gcBefore;
+            boolean jit = !overlappingRounds && compilationTime() != jitBefore;
+            measurement.addRound(timeMs, gc, jit, allocated, stats.getComparisons(), stats.getSwaps());
+            stats.reset();
+            onRound.accept(round++);
+        }
+        return measurement;
+    }
+
+    private double runRound(SortingAlgorithm algorithm, RecordStore input, RecordStore work, AtomicBoolean cancelFlag, Statistics stats) {
+        System.arraycopy(input.records(), 0, work.records(), 0, input.size());
+        return Timer.measureTimeMs(() -> algorithm.sort(work, cancelFlag, stats));
+    }
+
+    static long gcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, collector.getCollectionCount());
+        }
+        return total;
+    }
+
+    static long gcTime() {
+        long total = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, collector.getCollectionTime());
+        }
+        return total;
+    }
+
+    static long allocatedBytes() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads) || !threads.isThreadAllocatedMemorySupported()) {
+            return -1;
+        }
+        long total = 0;
+        for (long bytes : threads.getThreadAllocatedBytes(threads.getAllThreadIds())) {
+            if (bytes > 0) total += bytes;
+        }
+        return total;
+    }
+
+    static long compilationTime() {
+        CompilationMXBean compiler = ManagementFactory.getCompilationMXBean();
+        return compiler != null && compiler.isCompilationTimeMonitoringSupported() ? compiler.getTotalCompilationTime() : 0;
+    }
+}
+
+class MannWhitneyTest {
+    public static double pValue(double[] first, double[] second) {
+        int n1 = first.length;
+        int n2 = second.length;
+        if (n1 == 0 || n2 == 0) return 1.0;
+
+        double[][] pooled = new double[n1 + n2][];
+        for (int i = 0; i < n1; i++) pooled[i] = new double[]{first[i], 0};
+        for (int i = 0; i < n2; i++) pooled[n1 + i] = new double[]{second[i], 1};
+        Arrays.sort(pooled, Comparator.comparingDouble(entry -> entry[0]));
+
+        double rankSumFirst = 0;
+        double tieCorrection = 0;
+        int i = 0;
+        while (i < pooled.length) {
+            int j = i;
+            while (j + 1 < pooled.length && pooled[j + 1][0] == pooled[i][0]) j++;
+            double rank = (i + j) / 2.0 + 1;
+            for (int k = i; k <= j; k++) {
+                if (pooled[k][1] == 0) rankSumFirst += rank;
+            }
+            int ties = j - i + 1;
+            tieCorrection += (double) ties * ties * ties - ties;
+            i = j + 1;
+        }
+
+        double u = rankSumFirst - n1 * (n1 + 1) / 2.0;
+        double mean = n1 * (double) n2 / 2.0;
+        int n = n1 + n2;
+        double variance = n1 * (double) n2 / 12.0 * ((n + 1) - tieCorrection / ((double) n * (n - 1)));
+        if (variance <= 0) return 1.0;
+
+        double z = (Math.abs(u - mean) - 0.5) / Math.sqrt(variance);
+        return Math.min(1.0, 2 * (1 - normalCdf(Math.max(z, 0))));
+    }
+
+    private static double normalCdf(double z) {
+        double t = 1 / (1 + 0.2316419 * z);
+        double density = Math.exp(-z * z / 2) / Math.sqrt(2 * Math.PI);
+        double tail = density * t * (0.319381530 + t * (-0.356563782 + t * (1.781477937 + t * (-1.821255978 + t * 1.330274429))));
+        return 1 - tail;
+    }
+}
+
+class ResultsStore {
+    public static final String DEFAULT_FILE = "output_data" + File.separator + "results_store.tsv";
+    public static final double SIGNIFICANCE_LEVEL = 0.05;
+    private static final String HEADER = "# timestamp\talgorithm\tdataset\tsize\tjvm\thost\tjvm_flags\ttimes_ms";
+
+    private final Path file;
+
+    public ResultsStore(String fileName) {
+        this.file = Path.of(fileName);
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public static String currentJvm() {
+        return System.getProperty("java.vm.name") + " " + System.getProperty("java.vm.version");
+    }
+
+    public static String currentHost() {
+        try {
+            return java.net.InetAddress.getLocalHost().getHostName();
+        } catch (IOException e) {
+            String host = System.getenv("HOSTNAME");
+            return host != null ? host : "desconhecido";
+        }
+    }
+
+    private static String currentJvmFlags() {
+        return String.join(" ", ManagementFactory.getRuntimeMXBean().getInputArguments());
+    }
+
+    public Comparison compareAndAppend(String algorithm, String dataset, int size, Measurement measurement) throws IOException {
+        String[] key = {clean(algorithm), clean(dataset), Integer.toString(size), clean(currentJvm()), clean(currentHost())};
+        String[] baseline = findBaseline(key);
+
+        double[] current = new double[measurement.size()];
+        for (int i = 0; i < current.length; i++) current[i] = measurement.time(i);
+        append(key, current);
+
+        if (baseline == null) return new Comparison(algorithm, null, current, null, false);
+        String[] values = baseline[7].split(",");
+        double[] previous = new double[values.length];
+        for (int i = 0; i < values.length; i++) previous[i] = Double.parseDouble(values[i]);
+        return new Comparison(algorithm, previous, current, baseline[0], !baseline[6].equals(clean(currentJvmFlags())));
+    }
+
+    private String[] findBaseline(String[] key) throws IOException {
+        if (!Files.exists(file)) return null;
+        String[] baseline = null;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith("#") || line.isBlank()) continue;
+                String[] fields = line.split("\t", -1);
+                if (fields.length == 8 && Arrays.equals(Arrays.copyOfRange(fields, 1, 6), key)) {
+                    baseline = fields;
+                }
+            }
+        }
+        return baseline;
+    }
+
+    private void append(String[] key, double[] times) throws IOException {
+        if (file.getParent() != null) Files.createDirectories(file.getParent());
+        boolean isNew = !Files.exists(file);
+
+        StringBuilder line = new StringBuilder();
+        if (isNew) line.append(HEADER).append(System.lineSeparator());
+        line.append(new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss").format(new Date()));
+        for (String field : key) line.append('\t').append(field);
+        line.append('\t').append(clean(currentJvmFlags())).append('\t');
+        for (int i = 0; i < times.length; i++) {
+            if (i > 0) line.append(',');
+            line.append(String.format(Locale.ROOT, "%.6f", times[i]));
+        }
+        line.append(System.lineSeparator());
+
+        Files.writeString(file, line, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private static String clean(String value) {
+        return value.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ');
+    }
+
+    static class Comparison {
+        final String algorithm;
+        final double[] baseline;
+        final double[] current;
+        final String baselineTimestamp;
+        final boolean jvmFlagsChanged;
+
+        Comparison(String algorithm, double[] baseline, double[] current, String baselineTimestamp, boolean jvmFlagsChanged) {
+            this.algorithm = algorithm;
+            this.baseline = baseline;
+            this.current = current;
+            this.baselineTimestamp = baselineTimestamp;
+            this.jvmFlagsChanged = jvmFlagsChanged;
+        }
+
+        boolean hasBaseline() {
+            return baseline != null;
+        }
+
+        double pValue() {
+            return hasBaseline() ? MannWhitneyTest.pValue(baseline, current) : 1.0;
+        }
+
+        double baselineMedian() {
+            return hasBaseline() ? median(baseline) : 0;
+        }
+
+        double currentMedian() {
+            return median(current);
+        }
+
+        double changePercent() {
+            return hasBaseline() && baselineMedian() > 0 ? (currentMedian() / baselineMedian() - 1) * 100 : 0;
+        }
+
+        String verdict() {
+            if (!hasBaseline()) return "sem linha de base";
+            if (pValue() >= SIGNIFICANCE_LEVEL) return "sem diferença significativa";
+            return currentMedian() > baselineMedian() ? "REGRESSÃO" : "MELHORIA";
+        }
+
+        private static double median(double[] values) {
+            double[] sorted = values.clone();
+            Arrays.sort(sorted);
+            int middle = sorted.length / 2;
+            return sorted.length % 2 == 0 ? (sorted[middle - 1] + sorted[middle]) / 2.0 : sorted[middle];
+        }
+    }
+}
+
+class SortingManager {
+    public static final int DEFAULT_WARMUP_ROUNDS = 3;
+    public static final int DEFAULT_MEASURED_ROUNDS = 10;
+    private static final int INSTRUMENTED_ROUNDS = 3;
+
+    private final RecordStore originalData;
+    private final List<SortingAlgorithm> algorithms;
+    private final MeasurementEngine engine;
+    private final MeasurementEngine instrumentedEngine = new MeasurementEngine(0, INSTRUMENTED_ROUNDS);
+    private final Map<String, Measurement> measurements = new HashMap<>();
+    private final Map<String, Measurement> instrumentedMeasurements = new HashMap<>();
+    private final Map<String, Double> stdDeviations;
+    private final AtomicBoolean cancelFlag;
+    private final String sampleName;
+    private final Map<String, Long> totalComparisons = new HashMap<>();
+    private final Map<String, Long> totalSwaps = new HashMap<>();
+    private final Map<String, String> savedFilePaths = new HashMap<>();
+    private boolean saveSortedData = true;
+    private boolean overlappingRounds;
+
+
+    public SortingManager(RecordStore data, AtomicBoolean cancelFlag, String sampleName) {
+        this(data, cancelFlag, sampleName, DEFAULT_WARMUP_ROUNDS, DEFAULT_MEASURED_ROUNDS);
+    }
+
+    public SortingManager(RecordStore data, AtomicBoolean cancelFlag, String sampleName, int warmupRounds, int measuredRounds) {
+        this(data, cancelFlag, sampleName, warmupRounds, measuredRounds, defaultAlgorithms());
+    }
+
+    public SortingManager(RecordStore data, AtomicBoolean cancelFlag, String sampleName, int warmupRounds, int measuredRounds, List<SortingAlgorithm> algorithms) {
+        this.originalData = data;
+        this.algorithms = algorithms;
+        this.engine = new MeasurementEngine(warmupRounds, measuredRounds);
+        this.stdDeviations = new HashMap<>();
+        this.cancelFlag = cancelFlag;
+        this.sampleName = sampleName;
+    }
+
+    public static List<SortingAlgorithm> defaultAlgorithms() {
+        return List.of(new QuickSort(), new ThreeWayQuickSort(), new MergeSort(), new HeapSort(), new RadixSort(), new ParallelMergeSort(), new ParallelQuickSort(), new ParallelIntroSort(), new SampleSort(), new AdaptiveSort());
+    }
+
+    public void setSaveSortedData(boolean saveSortedData) {
+        this.saveSortedData = saveSortedData;
+    }
+
+    public Map<String, Measurement> getMeasurements() {
+        return Collections.unmodifiableMap(measurements);
+    }
+
+    public Map<String, Measurement> getInstrumentedMeasurements() {
+        return Collections.unmodifiableMap(instrumentedMeasurements);
+    }
+
+    public Map<String, ResultsStore.Comparison> compareWithBaseline(ResultsStore store, String datasetSpec) {
+        Map<String, ResultsStore.Comparison> comparisons = new TreeMap<>();
+        if (cancelFlag.get()) return comparisons;
+
+        try {
+            for (Map.Entry<String, Measurement> entry : new TreeMap<>(measurements).entrySet()) {
+                comparisons.put(entry.getKey(), store.compareAndAppend(entry.getKey(), datasetSpec, originalData.size(), entry.getValue()));
+            }
+        } catch (IOException e) {
+            System.out.println("Erro ao acessar o histórico de resultados: " + e.getMessage());
+            return comparisons;
+        }
+
+        System.out.println("\n===== Comparação com a Linha de Base (" + datasetSpec + ", " + originalData.size() + " elementos) =====");
+        System.out.println(String.format("%-18s %-18s %-18s %-12s %-10s %s", "Algoritmo", "Mediana Base (ms)", "Mediana Atual (ms)", "Variação", "p-valor", "Resultado"));
+        for (ResultsStore.Comparison comparison : comparisons.values()) {
+            if (comparison.hasBaseline()) {
+                System.out.println(String.format("%-18s %-18.2f %-18.2f %-12s %-10.4f %s", comparison.algorithm, comparison.baselineMedian(), comparison.currentMedian(), String.format("%+.1f%%", comparison.changePercent()), comparison.pValue(), comparison.verdict()));
+            } else {
+                System.out.println(String.format("%-18s %-18s %-18.2f %-12s %-10s %s", comparison.algorithm, "-", comparison.currentMedian(), "-", "-", comparison.verdict()));
+            }
+            if (comparison.jvmFlagsChanged) {
+                System.out.println("  (as flags da JVM mudaram desde a linha de base de " + comparison.baselineTimestamp + ")");
+            }
+        }
+        System.out.println("Teste de Mann-Whitney sobre os tempos por rodada, nível de significância " + ResultsStore.SIGNIFICANCE_LEVEL + ". Histórico: " + store.getFile().toAbsolutePath());
+        return comparisons;
+    }
+
+    private void saveSortedArrayToFile(RecordStore sortedArray, String algorithmName) {
+        File outputFolder = new File("sorted_data");
+        if (!outputFolder.exists() && !outputFolder.mkdir()) {
+            System.out.println("Falha ao criar a pasta sorted_data.");
+            return;
+        }
+
+        String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
+        File outputFile = new File(outputFolder, sampleName + "_" + algorithmName + "_sorted_" + timestamp + ".txt");
+
+        try (PrintWriter writer = new PrintWriter(new BufferedWriter(new FileWriter(outputFile)))) {
+            for (long record : sortedArray.records()) {
+                writer.println(RecordStore.format(record));
+            }
+            synchronized (this) {
+                savedFilePaths.put(algorithmName, outputFile.getAbsolutePath());
+            }
+        } catch (IOException e) {
+            System.out.println("Erro ao salvar o array ordenado: " + e.getMessage());
+        }
+    }
+
+    public void executeSortingAlgorithmsInParallel() {
+        ProgressUtils.setupTerminal();
+        overlappingRounds = true;
+
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(algorithms.size())) {
+            List<Callable<Void>> tasks = new ArrayList<>();
+
+            for (SortingAlgorithm algorithm : algorithms) {
+                ProgressUtils.initializeProgress(algorithm.getClass().getSimpleName());
+                tasks.add(() -> {
+                    executeSingleAlgorithm(algorithm);
+                    return null;
+                });
+            }
+
+
+            executor.invokeAll(tasks);
+
+
+            displayAllSavedPaths();
+
+
+            ProgressUtils.finalizeProgress();
+        } catch (InterruptedException e) {
+            System.out.println("Execução paralela interrompida: " + e.getMessage());
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void displayAllSavedPaths() {
+        if (savedFilePaths.isEmpty()) return;
+        System.out.println("\n===== Caminhos dos Arquivos Ordenados =====");
+        savedFilePaths.forEach((algorithmName, filePath) ->
+                System.out.printf("%s: %s%n", algorithmName, filePath)
+        );
+        System.out.println("===========================================\n");
+    }
+
+
+
+    private void executeSingleAlgorithm(SortingAlgorithm algorithm) {
+        if (cancelFlag.get()) return;
+
+        String algorithmName = algorithm.getClass().getSimpleName();
+        int totalRounds = engine.totalRounds() + instrumentedEngine.totalRounds();
+
+        ProgressUtils.initializeProgress(algorithmName);
+        measureAlgorithm(algorithm, round -> ProgressUtils.displayProgress(algorithmName, round + 1, totalRounds));
+    }
+
+    public void executeSortingAlgorithms() {
+        overlappingRounds = false;
+        for (SortingAlgorithm algorithm : algorithms) {
+            if (cancelFlag.get()) {
+                System.out.println("Processo de ordenação interrompido.");
+                return;
+            }
+
+            String algorithmName = algorithm.getClass().getSimpleName();
+            System.out.println("Iniciando " + algorithmName + "...");
+
+            if (measureAlgorithm(algorithm, round -> displayProgressWithCancelOption(algorithmName, round))) {
+                System.out.println("\n" + algorithmName + " concluído.");
+            } else {
+                System.out.println("Processo de ordenação interrompido.");
+                return;
+            }
+        }
+
+
+        displayAllSavedPaths();
+    }
+
+    private boolean measureAlgorithm(SortingAlgorithm algorithm, IntConsumer onRound) {
+        RecordStore dataCopy = new RecordStore(originalData.size());
+        String algorithmName = algorithm.getClass().getSimpleName();
+
+        Measurement clean = engine.measure(algorithm, originalData, dataCopy, cancelFlag, NoOpStatistics.INSTANCE, overlappingRounds, onRound);
+        Measurement instrumented = instrumentedEngine.measure(algorithm, originalData, dataCopy, cancelFlag, algorithm.createStatistics(), overlappingRounds, round -> onRound.accept(engine.totalRounds() + round));
+
+        if (cancelFlag.get() || clean.isEmpty()) return false;
+
+        synchronized (this) {
+            measurements.put(algorithmName, clean);
+            instrumentedMeasurements.put(algorithmName, instrumented);
+            stdDeviations.put(algorithmName, clean.standardDeviation());
+            totalComparisons.put(algorithmName, instrumented.averageComparisons());
+            totalSwaps.put(algorithmName, instrumented.averageSwaps());
+        }
+        if (saveSortedData) saveSortedArrayToFile(dataCopy, algorithmName);
+        return true;
+    }
+
+
+    private double calculateThroughput(double averageMs) {
+        return averageMs > 0 ? originalData.size() / (averageMs / 1000.0) : 0;
+    }
+
+    private double calculateNanosPerRecord(double averageMs) {
+        return originalData.size() > 0 ? averageMs * 1_000_000.0 / originalData.size() : 0;
+    }
+
+    public String getBestAlgorithm() {
+        return Collections.min(measurements.entrySet(), Comparator.comparingDouble(e -> e.getValue().mean())).getKey();
+    }
+
+    public Map<String, Double> getPerformanceData() {
+        Map<String, Double> performanceData = new HashMap<>();
+        for (Map.Entry<String, Measurement> entry : measurements.entrySet()) {
+            performanceData.put(entry.getKey(), entry.getValue().mean());
+        }
+        return performanceData;
+    }
+
+    private void displayProgressWithCancelOption(String algorithmName, int round) {
+        int progress = (round + 1) * 100 / (engine.totalRounds() + instrumentedEngine.totalRounds());
+        System.out.printf("\r%s Progresso: [%s] %d%%", algorithmName, "=".repeat(progress / 10), progress);
+    }
+
+
+
+    public void savePerformanceReport() {
+        if (cancelFlag.get()) return;
+
+        File outputFolder = new File("output_data");
+        if (!outputFolder.exists() && !outputFolder.mkdir()) {
+            System.out.println("Falha ao criar a pasta output_data.");
+            return;
+        }
+
+        String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
+        File reportFile = new File(outputFolder, sampleName + "_report_" + timestamp + ".txt");
+
+        try (PrintWriter writer = new PrintWriter(new FileWriter(reportFile))) {
+
+            PrintStream console = System.out;
+
+
+            Map<String, Double> averageTimes = new HashMap<>();
+
+
+            printBoth(writer, console, "Relatório de Desempenho:");
+            printBoth(writer, console, "Quantidade de dados: " + originalData.size() + " elementos");
+            printBoth(writer, console, "Rodadas de aquecimento: " + engine.getWarmupRounds() + ", rodadas medidas: " + engine.getMeasuredRounds() + " (cada rodada ordena uma cópia nova dos dados originais)");
+
+
+            printBoth(writer, console, "\nTabela de Resumo (Tempo Médio, Vazão, Comparações e Trocas):");
+            printBoth(writer, console, "Tempo limpo: sem contadores; tempo instrumentado: contando comparações e trocas.");
+            printBoth(writer, console, "-------------------------------------------------------");
+            printBoth(writer, console, String.format("%-18s %-18s %-22s %-20s %-15s %-15s %-15s", "Algoritmo", "Tempo Limpo (ms)", "Tempo Instr. (ms)", "Vazão (reg/s)", "ns/registro", "Comparações", "Trocas"));
+
+
+            for (String algorithmName : measurements.keySet()) {
+                Measurement measurement = measurements.get(algorithmName);
+                double averageMs = measurement.mean();
+                long avgComparisons = totalComparisons.getOrDefault(algorithmName, 0L);
+                long avgSwaps = totalSwaps.getOrDefault(algorithmName, 0L);
+
+
+                averageTimes.put(algorithmName, averageMs);
+
+
+                double instrumentedMs = instrumentedMeasurements.get(algorithmName).mean();
+                printBoth(writer, console, String.format("%-18s %-18.2f %-22.2f %-20.0f %-15.2f %-15d %-15d", algorithmName, averageMs, instrumentedMs, calculateThroughput(averageMs), calculateNanosPerRecord(averageMs), avgComparisons, avgSwaps));
+            }
+
+
+            for (Map.Entry<String, Measurement> entry : measurements.entrySet()) {
+                String algorithmName = entry.getKey();
+                Measurement measurement = entry.getValue();
+
+                double averageMs = measurement.mean();
+                double halfWidth = measurement.confidenceHalfWidth95();
+                printBoth(writer, console, "\n" + algorithmName + " - Tempo Médio: " + String.format("%.2f", averageMs) + " ms, Mediana: " + String.format("%.2f", measurement.median()) + " ms, Desvio Padrão: " + String.format("%.2f", measurement.standardDeviation()) + " ms");
+                printBoth(writer, console, algorithmName + " - p90: " + String.format("%.2f", measurement.percentile(90)) + " ms, p99: " + String.format("%.2f", measurement.percentile(99)) + " ms, IC 95% da média: " + String.format("%.2f", averageMs - halfWidth) + " a " + String.format("%.2f", averageMs + halfWidth) + " ms (±" + String.format("%.1f", averageMs > 0 ? halfWidth / averageMs * 100 : 0) + "%)");
+                printBoth(writer, console, algorithmName + " - Comparações Médias: " + totalComparisons.get(algorithmName) + ", Trocas Médias: " + totalSwaps.get(algorithmName));
+                double instrumentedMs = instrumentedMeasurements.get(algorithmName).mean();
+                printBoth(writer, console, algorithmName + " - Tempo Instrumentado Médio: " + String.format("%.2f", instrumentedMs) + " ms (sobrecarga dos contadores: " + String.format("%.1f", (instrumentedMs / averageMs - 1) * 100) + "%)");
+
+
+                printBoth(writer, console, "\nDistribuição de Tempo de Execução por Rodada Medida:");
+                for (int i = 0; i < measurement.size(); i++) {
+                    String noise = (measurement.hadGc(i) ? " [GC]" : "") + (measurement.hadJit(i) ? " [JIT]" : "");
+                    printBoth(writer, console, "Rodada " + (i + 1) + ": " + String.format("%.2f", measurement.time(i)) + " ms" + noise);
+                }
+
+                printBoth(writer, console, "\nAnálise de Ruído:");
+                if (measurement.hasOverlappingRounds()) {
+                    printBoth(writer, console, "Execução paralela: coleta de lixo, compilação JIT e alocação são contadas para a JVM inteira e não podem ser atribuídas a um algoritmo.");
+                } else if (measurement.gcRounds() == 0 && measurement.jitRounds() == 0) {
+                    printBoth(writer, console, "Nenhuma coleta de lixo ou compilação JIT detectada durante as rodadas medidas.");
+                } else {
+                    printBoth(writer, console, "Rodadas com coleta de lixo: " + measurement.gcRounds() + ", rodadas com compilação JIT: " + measurement.jitRounds() + " de " + measurement.size());
+                    if (measurement.jitRounds() > measurement.size() / 2) {
+                        printBoth(writer, console, "A maioria das rodadas ainda compilava código; aumente as rodadas de aquecimento.");
+                    }
+                }
+                printBoth(writer, console, "");
+            }
+
+
+            String bestAlgorithm = Collections.min(averageTimes.entrySet(), Map.Entry.comparingByValue()).getKey();
+            double bestTime = averageTimes.get(bestAlgorithm);
+
+            printBoth(writer, console, "\nAlgoritmo mais eficiente: " + bestAlgorithm);
+            for (Map.Entry<String, Double> entry : averageTimes.entrySet()) {
+                String algorithmName = entry.getKey();
+                double time = entry.getValue();
+                if (!algorithmName.equals(bestAlgorithm)) {
+                    double efficiencyRatio = time / bestTime;
+                    double timeDifference = time - bestTime;
+                    printBoth(writer, console, algorithmName + " foi " + String.format("%.2f", efficiencyRatio) + " vezes mais lento que " + bestAlgorithm + ", diferença de " + String.format("%.2f", timeDifference) + " ms");
+                }
+            }
+
+
+            for (SortingAlgorithm algorithm : algorithms) {
+                if (algorithm instanceof AdaptiveSort adaptiveSort && measurements.containsKey("AdaptiveSort")) {
+                    printBoth(writer, console, "\nDecisão adaptativa: " + adaptiveSort.describeLastDecision());
+                }
+            }
+
+
+            String lowestStdDevAlgorithm = Collections.min(stdDeviations.entrySet(), Map.Entry.comparingByValue()).getKey();
+            printBoth(writer, console, "\nAlgoritmo com menor desvio padrão: " + lowestStdDevAlgorithm + " (Desvio Padrão: " + String.format("%.2f", stdDeviations.get(lowestStdDevAlgorithm)) + " ms)");
+
+
+            printBoth(writer, console, "\nComparação Gráfica de Tempo de Execução:");
+            for (Map.Entry<String, Double> entry : averageTimes.entrySet()) {
+                String algorithmName = entry.getKey();
+                double relativeTime = entry.getValue() / bestTime;
+                int barLength = (int) (relativeTime * 20);
+                printBoth(writer, console, String.format("%-15s | %s (%.2f ms)", algorithmName, "=".repeat(barLength), entry.getValue()));
+            }
+
+
+            double minBaseline = 30.0;
+            printBoth(writer, console, "\n------------------------------------------------------------");
+            printBoth(writer, console, "Tabela de Avaliação (0-100)");
+            printBoth(writer, console, "------------------------------------------------------------");
+            printBoth(writer, console, String.format("%-15s %-15s %-15s %-15s", "Algoritmo", "Nota Tempo", "Nota Comp.", "Nota Final"));
+
+            for (String algorithmName : averageTimes.keySet()) {
+                double timeScore = calculateScore(averageTimes.get(algorithmName), minBaseline, calculateMinMax(averageTimes));
+                double comparisonScore = calculateScore(totalComparisons.getOrDefault(algorithmName, 0L), minBaseline, calculateMinMax(totalComparisons));
+                double swapScore = calculateScore(totalSwaps.getOrDefault(algorithmName, 0L), minBaseline, calculateMinMax(totalSwaps));
+                double finalScore = (timeScore * 0.9) + (comparisonScore * 0.05) + (swapScore * 0.05);
+
+                printBoth(writer, console, String.format("%-15s %-15.2f %-15.2f %-15.2f", algorithmName, timeScore, comparisonScore, finalScore));
+            }
+
+
+            printBoth(writer, console, "\n------------------------------------------------------------");
+            printBoth(writer, console, "Resumo");
+            printBoth(writer, console, "------------------------------------------------------------");
+            printBoth(writer, console, "Algoritmo mais eficiente: " + bestAlgorithm + " (Tempo Médio: " + String.format("%.2f", bestTime) + " ms)");
+            printBoth(writer, console, "Algoritmo com menor desvio padrão: " + lowestStdDevAlgorithm + " (Desvio Padrão: " + String.format("%.2f", stdDeviations.get(lowestStdDevAlgorithm)) + " ms)");
+            printBoth(writer, console, "\nRecomendações para Cenários Específicos:");
+            printBoth(writer, console, "------------------------------------------------------------");
+
+            if (bestAlgorithm.equals("MergeSort")) {
+                printBoth(writer, console, "MergeSort é recomendado para conjuntos de dados grandes devido à sua consistência e estabilidade.");
+            }
+            if (bestAlgorithm.equals("QuickSort")) {
+                printBoth(writer, console, "QuickSort é ideal para conjuntos de dados parcialmente ordenados ou pequenos, pois tende a ser mais rápido nesses casos.");
+            }
+            if (bestAlgorithm.equals("HeapSort")) {
+                printBoth(writer, console, "HeapSort é indicado para dados aleatórios onde a estabilidade não é um requisito.");
+            }
+            if (bestAlgorithm.equals("ParallelMergeSort")) {
+                printBoth(writer, console, "ParallelMergeSort é recomendado para grandes volumes de dados em máquinas com vários núcleos, mantendo a estabilidade do MergeSort.");
+            }
+            if (bestAlgorithm.equals("ParallelQuickSort") || bestAlgorithm.equals("ParallelIntroSort")) {
+                printBoth(writer, console, bestAlgorithm + " é recomendado para grandes volumes de dados em máquinas com vários núcleos, quando a estabilidade não é um requisito.");
+            }
+            if (bestAlgorithm.equals("SampleSort")) {
+                printBoth(writer, console, "SampleSort é recomendado para volumes muito grandes (milhões de registros), pois distribui os dados entre os núcleos em uma única passagem.");
+            }
+            if (bestAlgorithm.equals("AdaptiveSort")) {
+                printBoth(writer, console, "AdaptiveSort é recomendado para produção, pois amostra os dados e ordena uma única vez com o algoritmo adequado.");
+            }
+            if (bestAlgorithm.equals("RadixSort")) {
+                printBoth(writer, console, "RadixSort é recomendado para grandes volumes de dados, pois ordena em tempo linear e preserva a ordem dos status.");
+            }
+
+            printBoth(writer, console, "\nPara dados com grande variação, é recomendável usar algoritmos com menor desvio padrão (ex.: " + lowestStdDevAlgorithm + ").");
+
+            System.out.println("Relatório salvo em: " + reportFile.getAbsolutePath());
+            System.out.println("\n");
+        } catch (IOException e) {
+            System.out.println("Erro ao salvar o relatório: " + e.getMessage());
+        }
+    }
+
+
+    private void printBoth(PrintWriter writer, PrintStream console, String text) {
+        writer.println(text);
+        console.println(text);
+    }
+
+
+    private <T extends Number & Comparable<T>> MinMax calculateMinMax(Map<String, T> data) {
+        T max = Collections.max(data.values());
+        T min = Collections.min(data.values());
+        return new MinMax(min.doubleValue(), max.doubleValue());
+    }
+
+
+
+    private double calculateScore(double value, double minBaseline, MinMax minMax) {
+        return (minMax.max > minMax.min) ? Math.max((1 - (value - minMax.min) / (minMax.max - minMax.min)) * 100, minBaseline) : 100;
+    }
+
+
+    private static class MinMax {
+        double min, max;
+        MinMax(double min, double max) {
+            this.min = min;
+            this.max = max;
+        }
+    }
+
+}
+
+
+class SortingUtils {
+    public static void insertionSort(long[] array, int low, int high, Statistics stats) {
+        for (int i = low + 1; i <= high; i++) {
+            long key = array[i];
+            int j = i - 1;
+            while (j >= low && compare(array[j], key) > 0) {
+                stats.incrementComparisons();
+                array[j + 1] = array[j];
+                j--;
+                stats.incrementSwaps();
+            }
+            array[j + 1] = key;
+        }
+    }
+
+    private static int compare(long a, long b) {
+        return Integer.compare(RecordStore.areaNumber(a), RecordStore.areaNumber(b));
+    }
+}
+
+
+
+
+
+class Timer {
+    public static double measureTimeMs(Runnable algorithm) {
+        long startTime = System.nanoTime();
+        algorithm.run();
+        long endTime = System.nanoTime();
+        return (endTime - startTime) / 1_000_000.0;
+    }
+}
+
+class QuickSort implements SortingAlgorithm {
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    @Override
+    public void sort(RecordStore records, AtomicBoolean cancelFlag, Statistics stats) {
+        long[] array = records.records();
+        quickSortIterative(array, 0, array.length - 1, cancelFlag, stats);
+    }
+
+    void quickSortIterative(long[] array, int from, int to, AtomicBoolean cancelFlag, Statistics stats) {
+        if (cancelFlag.get()) return;
+
+        Stack<int[]> stack = new Stack<>();
+        stack.push(new int[]{from, to});
+
+        while (!stack.isEmpty()) {
+            if (cancelFlag.get()) return;
+
+            int[] range = stack.pop();
+            int low = range[0];
+            int high = range[1];
+
+            if (high - low <= INSERTION_SORT_THRESHOLD) {
+                SortingUtils.insertionSort(array, low, high, stats);
+                continue;
+            }
+
+            int pivotIndex = medianOfThreePartition(array, low, high, stats);
+
+            if (pivotIndex - 1 - low > high - pivotIndex - 1) {
+                stack.push(new int[]{low, pivotIndex - 1});
+                stack.push(new int[]{pivotIndex + 1, high});
+            } else {
+                stack.push(new int[]{pivotIndex + 1, high});
+                stack.push(new int[]{low, pivotIndex - 1});
+            }
+        }
+    }
+
+    int medianOfThreePartition(long[] array, int low, int high, Statistics stats) {
+        int mid = low + (high - low) / 2;
+
+        if (compare(array[low], array[mid], stats) > 0) swap(array, low, mid, stats);
+        if (compare(array[low], array[high], stats) > 0) swap(array, low, high, stats);
+        if (compare(array[mid], array[high], stats) > 0) swap(array, mid, high, stats);
+
+        long pivot = array[mid];
+        swap(array, mid, high - 1, stats);
+        int i = low;
+        int j = high - 1;
+
+        while (true) {
+            while (compare(array[++i], pivot, stats) < 0) if (i == high - 1) break;
+            while (compare(array[--j], pivot, stats) > 0) if (j == low) break;
+            if (i >= j) break;
+            swap(array, i, j, stats);
+        }
+        swap(array, i, high - 1, stats);
+        return i;
+    }
+
+    void swap(long[] array, int i, int j, Statistics stats) {
+        long temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+        stats.incrementSwaps();
+    }
+
+    int compare(long a, long b, Statistics stats) {
+        stats.incrementComparisons();
+        return Integer.compare(RecordStore.areaNumber(a), RecordStore.areaNumber(b));
+    }
+}
+
+class TracingQuickSort extends QuickSort {
+    @Override
+    void swap(long[] array, int i, int j, Statistics stats) {
+        super.swap(array, i, j, stats);
+        System.out.printf("Troca realizada: %s <-> %s\n", RecordStore.format(array[i]), RecordStore.format(array[j]));
+    }
+
+    @Override
+    int compare(long a, long b, Statistics stats) {
+        int result = super.compare(a, b, stats);
+        System.out.printf("Comparação realizada: %s e %s (resultado: %d)\n", RecordStore.format(a), RecordStore.format(b), result);
+        return result;
+    }
+}
+
+class ThreeWayQuickSort implements SortingAlgorithm {
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+    private static final int NINTHER_THRESHOLD = 128;
+
+    @Override
+    public void sort(RecordStore records, AtomicBoolean cancelFlag, Statistics stats) {
+        long[] array = records.records();
+        sort(array, 0, array.length - 1, cancelFlag, stats);
+    }
+
+    void sort(long[] array, int low, int high, AtomicBoolean cancelFlag, Statistics stats) {
+        while (high - low > INSERTION_SORT_THRESHOLD) {
+            if (cancelFlag.get()) return;
+
+            swap(array, low, choosePivot(array, low, high, stats), stats);
+            long pivot = array[low];
+
+            int i = low;
+            int j = high + 1;
+            int p = low;
+            int q = high + 1;
+            while (true) {
+                while (compare(array[++i], pivot, stats) < 0) if (i == high) break;
+                while (compare(pivot, array[--j], stats) < 0) if (j == low) break;
+
+                if (i == j && compare(array[i], pivot, stats) == 0) swap(array, ++p, i, stats);
+                if (i >= j) break;
+
+                swap(array, i, j, stats);
+                if (compare(array[i], pivot, stats) == 0) swap(array, ++p, i, stats);
+                if (compare(array[j], pivot, stats) == 0) swap(array, --q, j, stats);
+            }
+
+            i = j + 1;
+            for (int k = low; k <= p; k++) swap(array, k, j--, stats);
+            for (int k = high; k >= q; k--) swap(array, k, i++, stats);
+
+            if (j - low < high - i) {
+                sort(array, low, j, cancelFlag, stats);
+                low = i;
+            } else {
+                sort(array, i, high, cancelFlag, stats);
+                high = j;
+            }
+        }
+
+        SortingUtils.insertionSort(array, low, high, stats);
+    }
+
+    private int choosePivot(long[] array, int low, int high, Statistics stats) {
+        int length = high - low + 1;
+        int mid = low + length / 2;
+        if (length < NINTHER_THRESHOLD) {
+            return medianOfThree(array, low, mid, high, stats);
+        }
+
+        int step = length / 8;
+        int first = medianOfThree(array, low, low + step, low + 2 * step, stats);
+        int middle = medianOfThree(array, mid - step, mid, mid + step, stats);
+        int last = medianOfThree(array, high - 2 * step, high - step, high, stats);
+        return medianOfThree(array, first, middle, last, stats);
+    }
+
+    private int medianOfThree(long[] array, int a, int b, int c, Statistics stats) {
+        if (compare(array[a], array[b], stats) < 0) {
+            if (compare(array[b], array[c], stats) < 0) return b;
+            return compare(array[a], array[c], stats) < 0 ? c : a;
+        }
+        if (compare(array[a], array[c], stats) < 0) return a;
+        return compare(array[b], array[c], stats) < 0 ? c : b;
+    }
+
+    private void swap(long[] array, int i, int j, Statistics stats) {
+        long temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+        stats.incrementSwaps();
+    }
+
+    private int compare(long a, long b, Statistics stats) {
+        stats.incrementComparisons();
+        return Integer.compare(RecordStore.areaNumber(a), RecordStore.areaNumber(b));
+    }
+}
+
+class MergeSort implements SortingAlgorithm {
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    @Override
+    public void sort(RecordStore records, AtomicBoolean cancelFlag, Statistics stats) {
+        long[] array = records.records();
+        long[] aux = new long[array.length];
+        System.arraycopy(array, 0, aux, 0, array.length);
+        mergeSort(array, aux, 0, array.length - 1, cancelFlag, stats);
+    }
+
+    void mergeSort(long[] array, long[] aux, int left, int right, AtomicBoolean cancelFlag, Statistics stats) {
+        if (left >= right || cancelFlag.get()) return;
+
+        if (right - left <= INSERTION_SORT_THRESHOLD) {
+            SortingUtils.insertionSort(array, left, right, stats);
+            return;
+        }
+
+        int middle = left + (right - left) / 2;
+        mergeSort(aux, array, left, middle, cancelFlag, stats);
+        mergeSort(aux, array, middle + 1, right, cancelFlag, stats);
+
+        if (compare(aux[middle], aux[middle + 1]) <= 0) {
+            System.arraycopy(aux, left, array, left, right - left + 1);
+            return;
+        }
+        merge(array, aux, left, middle, right, stats);
+    }
+
+    private void merge(long[] array, long[] aux, int left, int middle, int right, Statistics stats) {
+        int i = left, j = middle + 1;
+        for (int k = left; k <= right; k++) {
+            stats.incrementComparisons();
+            if (i > middle) array[k] = aux[j++];
+            else if (j > right) array[k] = aux[i++];
+            else if (compare(aux[i], aux[j]) <= 0) array[k] = aux[i++];
+            else array[k] = aux[j++];
+            stats.incrementSwaps();
+        }
+    }
+
+    private int compare(long a, long b) {
+        return Integer.compare(RecordStore.areaNumber(a), RecordStore.areaNumber(b));
+    }
+}
+
+class ParallelMergeSort implements SortingAlgorithm {
+    private static final int SEQUENTIAL_THRESHOLD = 1 << 13;
+    private static final int MERGE_THRESHOLD = 1 << 13;
+
+    private final MergeSort sequential = new MergeSort();
+
+    @Override
+    public Statistics createStatistics() {
+        return new ConcurrentStatistics();
+    }
+
+    @Override
+    public void sort(RecordStore records, AtomicBoolean cancelFlag, Statistics stats) {
+        long[] array = records.records();
+        long[] aux = Arrays.copyOf(array, array.length);
+
+        SortTask task = new SortTask(array, aux, 0, array.length - 1, cancelFlag, stats.fork());
+        ForkJoinPool.commonPool().invoke(task);
+        stats.add(task.stats);
+    }
+
+    private class SortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final long[] array;
+        private final long[] aux;
+        private final int left;
+        private final int right;
+        private final AtomicBoolean cancelFlag;
+        private final transient Statistics stats;
+
+        SortTask(long[] array, long[] aux, int left, int right, AtomicBoolean cancelFlag, Statistics stats) {
+            this.array = array;
+            this.aux = aux;
+            this.left = left;
+            this.right = right;
+            this.cancelFlag = cancelFlag;
+            this.stats = stats;
+        }
+
+        @Override
+        protected void compute() {
+            if (left >= right || cancelFlag.get()) return;
+
+            if (right - left < SEQUENTIAL_THRESHOLD) {
+                sequential.mergeSort(array, aux, left, right, cancelFlag, stats);
+                return;
+            }
+
+            int middle = left + (right - left) / 2;
+            SortTask leftTask = new SortTask(aux, array, left, middle, cancelFlag, stats.fork());
+            SortTask rightTask = new SortTask(aux, array, middle + 1, right, cancelFlag, stats.fork());
+            invokeAll(leftTask, rightTask);
+            stats.add(leftTask.stats);
+            stats.add(rightTask.stats);
+
+            if (cancelFlag.get()) return;
+
+            if (compare(aux[middle], aux[middle + 1]) <= 0) {
+                System.arraycopy(aux, left, array, left, right - left + 1);
+                return;
+            }
+
+            MergeTask mergeTask = new MergeTask(aux, left, middle, middle + 1, right, array, left, cancelFlag, stats.fork());
+            mergeTask.invoke();
+            stats.add(mergeTask.stats);
+        }
+    }
+
+    private static class MergeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final long[] source;
+        private final int leftStart;
+        private final int leftEnd;
+        private final int rightStart;
+        private final int rightEnd;
+        private final long[] target;
+        private final int targetStart;
+        private final AtomicBoolean cancelFlag;
+        private final transient Statistics stats;
+
+        MergeTask(long[] source, int leftStart, int leftEnd, int rightStart, int rightEnd, long[] target, int targetStart, AtomicBoolean cancelFlag, Statistics stats) {
+            this.source = source;
+            this.leftStart = leftStart;
+            this.leftEnd = leftEnd;
+            this.rightStart = rightStart;
+            this.rightEnd = rightEnd;
+            this.target = target;
+            this.targetStart = targetStart;
+            this.cancelFlag = cancelFlag;
+            this.stats = stats;
+        }
+
+        @Override
+        protected void compute() {
+            if (cancelFlag.get()) return;
+
+            int leftLength = leftEnd - leftStart + 1;
+            int rightLength = rightEnd - rightStart + 1;
+            if (leftLength + rightLength <= MERGE_THRESHOLD) {
+                mergeSequential();
+                return;
+            }
+
+            MergeTask first;
+            MergeTask second;
+            if (leftLength >= rightLength) {
+                int leftSplit = leftStart + leftLength / 2;
+                int rightSplit = lowerBound(source, rightStart, rightEnd + 1, source[leftSplit], stats);
+                int position = targetStart + (leftSplit - leftStart) + (rightSplit - rightStart);
+                target[position] = source[leftSplit];
+                stats.incrementSwaps();
+
+                first = new MergeTask(source, leftStart, leftSplit - 1, rightStart, rightSplit - 1, target, targetStart, cancelFlag, stats.fork());
+                second = new MergeTask(source, leftSplit + 1, leftEnd, rightSplit, rightEnd, target, position + 1, cancelFlag, stats.fork());
+            } else {
+                int rightSplit = rightStart + rightLength / 2;
+                int leftSplit = upperBound(source, leftStart, leftEnd + 1, source[rightSplit], stats);
+                int position = targetStart + (leftSplit - leftStart) + (rightSplit - rightStart);
+                target[position] = source[rightSplit];
+                stats.incrementSwaps();
+
+                first = new MergeTask(source, leftStart, leftSplit - 1, rightStart, rightSplit - 1, target, targetStart, cancelFlag, stats.fork());
+                second = new MergeTask(source, leftSplit, leftEnd, rightSplit + 1, rightEnd, target, position + 1, cancelFlag, stats.fork());
+            }
+
+            invokeAll(first, second);
+            stats.add(first.stats);
+            stats.add(second.stats);
+        }
+
+        private void mergeSequential() {
+            int i = leftStart, j = rightStart, k = targetStart;
+            while (i <= leftEnd && j <= rightEnd) {
+                stats.incrementComparisons();
+                if (compare(source[i], source[j]) <= 0) target[k++] = source[i++];
+                else target[k++] = source[j++];
+                stats.incrementSwaps();
+            }
+            while (i <= leftEnd) {
+                target[k++] = source[i++];
+                stats.incrementSwaps();
+            }
+            while (j <= rightEnd) {
+                target[k++] = source[j++];
+                stats.incrementSwaps();
+            }
+        }
+    }
+
+    private static int lowerBound(long[] array, int from, int to, long key, Statistics stats) {
+        while (from < to) {
+            int middle = (from + to) >>> 1;
+            stats.incrementComparisons();
+            if (compare(array[middle], key) < 0) from = middle + 1;
+            else to = middle;
+        }
+        return from;
+    }
+
+    private static int upperBound(long[] array, int from, int to, long key, Statistics stats) {
+        while (from < to) {
+            int middle = (from + to) >>> 1;
+            stats.incrementComparisons();
+            if (compare(array[middle], key) <= 0) from = middle + 1;
+            else to = middle;
+        }
+        return from;
+    }
+
+    private static int compare(long a, long b) {
+        return Integer.compare(RecordStore.areaNumber(a), RecordStore.areaNumber(b));
+    }
+}
+
+class HeapSort implements SortingAlgorithm {
+    @Override
+    public void sort(RecordStore records, AtomicBoolean cancelFlag, Statistics stats) {
+        long[] array = records.records();
+        sort(array, 0, array.length - 1, cancelFlag, stats);
+    }
+
+    void sort(long[] array, int low, int high, AtomicBoolean cancelFlag, Statistics stats) {
+        int n = high - low + 1;
+
+
+        for (int i = n / 2 - 1; i >= 0 && !cancelFlag.get(); i--) {
+            siftDown(array, low, i, n, stats);
+        }
+
+        for (int i = n - 1; i > 0 && !cancelFlag.get(); i--) {
+            swap(array, low, low + i, stats);
+            siftDown(array, low, 0, i, stats);
+        }
+    }
+
+    private void siftDown(long[] array, int offset, int i, int n, Statistics stats) {
+        while (true) {
+            int largest = i;
+            int left = 2 * i + 1;
+            int right = 2 * i + 2;
+
+            if (left < n && compare(array[offset + left], array[offset + largest]) > 0) {
+                stats.incrementComparisons();
+                largest = left;
+            } else if (left < n) {
+                stats.incrementComparisons();
+            }
+
+            if (right < n && compare(array[offset + right], array[offset + largest]) > 0) {
+                stats.incrementComparisons();
+                largest = right;
+            } else if (right < n) {
+                stats.incrementComparisons();
+            }
+
+            if (largest == i) break;
+
+            swap(array, offset + i, offset + largest, stats);
+            i = largest;
+        }
+    }
+
+    private void swap(long[] array, int i, int j, Statistics stats) {
+        long temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+        stats.incrementSwaps();
+    }
+
+    private int compare(long a, long b) {
+        return Integer.compare(RecordStore.areaNumber(a), RecordStore.areaNumber(b));
+    }
+}
+
+
+class RadixSort implements SortingAlgorithm {
+    private static final int DIGIT_BITS = 11;
+    private static final int RADIX = 1 << DIGIT_BITS;
+    private static final int DIGIT_MASK = RADIX - 1;
+    private static final int PASSES = (Integer.SIZE + DIGIT_BITS - 1) / DIGIT_BITS;
+
+    private long[] buffer;
+
+    @Override
+    public void sort(RecordStore records, AtomicBoolean cancelFlag, Statistics stats) {
+        long[] array = records.records();
+        int n = array.length;
+        if (n < 2 || cancelFlag.get()) return;
+
+        if (buffer == null || buffer.length < n) {
+            buffer = new long[n];
+        }
+
+        int[][] counts = new int[PASSES][RADIX];
+        for (long record : array) {
+            int key = sortableKey(record);
+            for (int pass = 0; pass < PASSES; pass++) {
+                counts[pass][(key >>> (pass * DIGIT_BITS)) & DIGIT_MASK]++;
+            }
+        }
+
+        long[] source = array;
+        long[] target = buffer;
+        for (int pass = 0; pass < PASSES; pass++) {
+            if (cancelFlag.get()) break;
+
+            int shift = pass * DIGIT_BITS;
+            int[] offsets = counts[pass];
+            if (offsets[(sortableKey(source[0]) >>> shift) & DIGIT_MASK] == n) continue;
+
+            int offset = 0;
+            for (int digit = 0; digit < RADIX; digit++) {
+                int count = offsets[digit];
+                offsets[digit] = offset;
+                offset += count;
+            }
+
+            for (int i = 0; i < n; i++) {
+                long record = source[i];
+                target[offsets[(sortableKey(record) >>> shift) & DIGIT_MASK]++] = record;
+                stats.incrementSwaps();
+            }
+
+            long[] temp = source;
+            source = target;
+            target = temp;
+        }
+
+        if (source != array) {
+            System.arraycopy(source, 0, array, 0, n);
+        }
+    }
+
+    private static int sortableKey(long record) {
+        return RecordStore.areaNumber(record) ^ Integer.MIN_VALUE;
+    }
+}
+
+
+
+class IntroSort implements SortingAlgorithm {
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+    private static final int NINTHER_THRESHOLD = 128;
+
+    private final HeapSort heapSort = new HeapSort();
+
+    @Override
+    public void sort(RecordStore records, AtomicBoolean cancelFlag, Statistics stats) {
+        long[] array = records.records();
+        introSort(array, 0, array.length - 1, maxDepth(array.length), cancelFlag, stats);
+    }
+
+    static int maxDepth(int length) {
+        return 2 * (32 - Integer.numberOfLeadingZeros(Math.max(length, 1)));
+    }
+
+    void introSort(long[] array, int low, int high, int depthLimit, AtomicBoolean cancelFlag, Statistics stats) {
+        while (high - low > INSERTION_SORT_THRESHOLD) {
+            if (cancelFlag.get()) return;
+
+            if (depthLimit == 0) {
+                heapSort.sort(array, low, high, cancelFlag, stats);
+                return;
+            }
+
+            int pivotIndex = partition(array, low, high, stats);
+            depthLimit--;
+
+            if (pivotIndex - low < high - pivotIndex) {
+                introSort(array, low, pivotIndex - 1, depthLimit, cancelFlag, stats);
+                low = pivotIndex + 1;
+            } else {
+                introSort(array, pivotIndex + 1, high, depthLimit, cancelFlag, stats);
+                high = pivotIndex - 1;
+            }
+        }
+
+        SortingUtils.insertionSort(array, low, high, stats);
+    }
+
+
+
+    int partition(long[] array, int low, int high, Statistics stats) {
+        swap(array, low, choosePivot(array, low, high, stats), stats);
+        long pivot = array[low];
+
+        int i = low;
+        int j = high + 1;
+        while (true) {
+            while (compare(array[++i], pivot, stats) < 0) if (i == high) break;
+            while (compare(pivot, array[--j], stats) < 0) if (j == low) break;
+            if (i >= j) break;
+
+            swap(array, i, j, stats);
+        }
+
+        swap(array, low, j, stats);
+        return j;
+    }
+
+    private int choosePivot(long[] array, int low, int high, Statistics stats) {
+        int length = high - low + 1;
+        int mid = low + length / 2;
+        if (length < NINTHER_THRESHOLD) {
+            return medianOfThree(array, low, mid, high, stats);
+        }
+
+        int step = length / 8;
+        int first = medianOfThree(array, low, low + step, low + 2 * step, stats);
+        int middle = medianOfThree(array, mid - step, mid, mid + step, stats);
+        int last = medianOfThree(array, high - 2 * step, high - step, high, stats);
+        return medianOfThree(array, first, middle, last, stats);
+    }
+
+    private int medianOfThree(long[] array, int a, int b, int c, Statistics stats) {
+        if (compare(array[a], array[b], stats) < 0) {
+            if (compare(array[b], array[c], stats) < 0) return b;
+            return compare(array[a], array[c], stats) < 0 ? c : a;
+        }
+        if (compare(array[a], array[c], stats) < 0) return a;
+        return compare(array[b], array[c], stats) < 0 ? c : b;
+    }
+
+    private void swap(long[] array, int i, int j, Statistics stats) {
+        long temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+        stats.incrementSwaps();
+    }
+
+    private int compare(long a, long b, Statistics stats) {
+        stats.incrementComparisons();
+        return Integer.compare(RecordStore.areaNumber(a), RecordStore.areaNumber(b));
+    }
+}
+
+class ParallelQuickSort implements SortingAlgorithm {
+    private static final int SEQUENTIAL_THRESHOLD = 1 << 13;
+
+    private final QuickSort sequential = new QuickSort();
+
+    @Override
+    public Statistics createStatistics() {
+        return new ConcurrentStatistics();
+    }
+
+    @Override
+    public void sort(RecordStore records, AtomicBoolean cancelFlag, Statistics stats) {
+        long[] array = records.records();
+        PartitionTask task = new PartitionTask(array, 0, array.length - 1, cancelFlag, stats.fork());
+        ForkJoinPool.commonPool().invoke(task);
+        stats.add(task.stats);
+    }
+
+    private class PartitionTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final long[] array;
+        private final int low;
+        private final int high;
+        private final AtomicBoolean cancelFlag;
+        private final transient Statistics stats;
+
+        PartitionTask(long[] array, int low, int high, AtomicBoolean cancelFlag, Statistics stats) {
+            this.array = array;
+            this.low = low;
+            this.high = high;
+            this.cancelFlag = cancelFlag;
+            this.stats = stats;
+        }
+
+        @Override
+        protected void compute() {
+            List<PartitionTask> forked = new ArrayList<>();
+            int low = this.low;
+            int high = this.high;
+
+            while (high - low >= SEQUENTIAL_THRESHOLD && !cancelFlag.get()) {
+                int pivotIndex = sequential.medianOfThreePartition(array, low, high, stats);
+
+                int smallerLow, smallerHigh;
+                if (pivotIndex - low < high - pivotIndex) {
+                    smallerLow = low;
+                    smallerHigh = pivotIndex - 1;
+                    low = pivotIndex + 1;
+                } else {
+                    smallerLow = pivotIndex + 1;
+                    smallerHigh = high;
+                    high = pivotIndex - 1;
+                }
+
+                if (smallerHigh - smallerLow >= SEQUENTIAL_THRESHOLD) {
+                    PartitionTask task = new PartitionTask(array, smallerLow, smallerHigh, cancelFlag, stats.fork());
+                    task.fork();
+                    forked.add(task);
+                } else {
+                    sequential.quickSortIterative(array, smallerLow, smallerHigh, cancelFlag, stats);
+                }
+            }
+
+            sequential.quickSortIterative(array, low, high, cancelFlag, stats);
+
+            for (PartitionTask task : forked) {
+                task.join();
+                stats.add(task.stats);
+            }
+        }
+    }
+}
+
+class ParallelIntroSort implements SortingAlgorithm {
+    private static final int SEQUENTIAL_THRESHOLD = 1 << 13;
+
+    private final IntroSort sequential = new IntroSort();
+    private final HeapSort heapSort = new HeapSort();
+
+    @Override
+    public Statistics createStatistics() {
+        return new ConcurrentStatistics();
+    }
+
+    @Override
+    public void sort(RecordStore records, AtomicBoolean cancelFlag, Statistics stats) {
+        long[] array = records.records();
+
+        PartitionTask task = new PartitionTask(array, 0, array.length - 1, IntroSort.maxDepth(array.length), cancelFlag, stats.fork());
+        ForkJoinPool.commonPool().invoke(task);
+        stats.add(task.stats);
+    }
+
+    private class PartitionTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final long[] array;
+        private final int low;
+        private final int high;
+        private final int depthLimit;
+        private final AtomicBoolean cancelFlag;
+        private final transient Statistics stats;
+
+        PartitionTask(long[] array, int low, int high, int depthLimit, AtomicBoolean cancelFlag, Statistics stats) {
+            this.array = array;
+            this.low = low;
+            this.high = high;
+            this.depthLimit = depthLimit;
+            this.cancelFlag = cancelFlag;
+            this.stats = stats;
+        }
+
+        @Override
+        protected void compute() {
+            List<PartitionTask> forked = new ArrayList<>();
+            int low = this.low;
+            int high = this.high;
+            int depthLimit = this.depthLimit;
+
+            while (high - low >= SEQUENTIAL_THRESHOLD && depthLimit > 0 && !cancelFlag.get()) {
+                int pivotIndex = sequential.partition(array, low, high, stats);
+                depthLimit--;
+
+                int smallerLow, smallerHigh;
+                if (pivotIndex - low < high - pivotIndex) {
+                    smallerLow = low;
+                    smallerHigh = pivotIndex - 1;
+                    low = pivotIndex + 1;
+                } else {
+                    smallerLow = pivotIndex + 1;
+                    smallerHigh = high;
+                    high = pivotIndex - 1;
+                }
+
+                if (smallerHigh - smallerLow >= SEQUENTIAL_THRESHOLD) {
+                    PartitionTask task = new PartitionTask(array, smallerLow, smallerHigh, depthLimit, cancelFlag, stats.fork());
+                    task.fork();
+                    forked.add(task);
+                } else {
+                    sequential.introSort(array, smallerLow, smallerHigh, depthLimit, cancelFlag, stats);
+                }
+            }
+
+            if (depthLimit == 0) {
+                heapSort.sort(array, low, high, cancelFlag, stats);
+            } else {
+                sequential.introSort(array, low, high, depthLimit, cancelFlag, stats);
+            }
+
+            for (PartitionTask task : forked) {
+                task.join();
+                stats.add(task.stats);
+            }
+        }
+    }
+}
+
+class SampleSort implements SortingAlgorithm {
+    private static final int SEQUENTIAL_THRESHOLD = 1 << 16;
+    private static final int MIN_CHUNK_SIZE = 1 << 14;
+    private static final int BUCKETS_PER_THREAD = 4;
+    private static final int OVERSAMPLING = 32;
+
+    private final IntroSort bucketSorter = new IntroSort();
+    private long[] buffer;
+
+    @Override
+    public Statistics createStatistics() {
+        return new ConcurrentStatistics();
+    }
+
+    @Override
+    public void sort(RecordStore records, AtomicBoolean cancelFlag, Statistics stats) {
+        long[] array = records.records();
+        int n = array.length;
+        if (cancelFlag.get()) return;
+
+        if (n < SEQUENTIAL_THRESHOLD) {
+            bucketSorter.introSort(array, 0, n - 1, IntroSort.maxDepth(n), cancelFlag, stats);
+            return;
+        }
+
+        if (buffer == null || buffer.length < n) {
+            buffer = new long[n];
+        }
+        long[] target = buffer;
+
+        int parallelism = ForkJoinPool.commonPool().getParallelism();
+        int[] splitters = chooseSplitters(array, parallelism * BUCKETS_PER_THREAD);
+        int bucketCount = splitters.length + 1;
+        int chunkCount = Math.max(1, Math.min(parallelism * BUCKETS_PER_THREAD, n / MIN_CHUNK_SIZE));
+        int chunkSize = (n + chunkCount - 1) / chunkCount;
+
+        int[][] counts = new int[chunkCount][bucketCount];
+        Statistics[] chunkStats = new Statistics[chunkCount];
+        List<Callable<Void>> countTasks = new ArrayList<>();
+        for (int c = 0; c < chunkCount; c++) {
+            int chunk = c;
+            chunkStats[chunk] = stats.fork();
+            countTasks.add(() -> {
+                int from = chunk * chunkSize;
+                int to = Math.min(from + chunkSize, n);
+                for (int i = from; i < to; i++) {
+                    counts[chunk][bucketOf(splitters, RecordStore.areaNumber(array[i]), chunkStats[chunk])]++;
+                }
+                return null;
+            });
+        }
+
+        try {
+            ParallelUtils.invokeAll(countTasks);
+            if (cancelFlag.get()) return;
+
+            int[] bucketStarts = new int[bucketCount + 1];
+            int[][] offsets = new int[chunkCount][bucketCount];
+            int position = 0;
+            for (int bucket = 0; bucket < bucketCount; bucket++) {
+                bucketStarts[bucket] = position;
+                for (int chunk = 0; chunk < chunkCount; chunk++) {
+                    offsets[chunk][bucket] = position;
+                    position += counts[chunk][bucket];
+                }
+            }
+            bucketStarts[bucketCount] = n;
+
+            List<Callable<Void>> scatterTasks = new ArrayList<>();
+            for (int c = 0; c < chunkCount; c++) {
+                int chunk = c;
+                scatterTasks.add(() -> {
+                    int[] chunkOffsets = offsets[chunk];
+                    Statistics local = chunkStats[chunk];
+                    int from = chunk * chunkSize;
+                    int to = Math.min(from + chunkSize, n);
+                    for (int i = from; i < to; i++) {
+                        long record = array[i];
+                        target[chunkOffsets[bucketOf(splitters, RecordStore.areaNumber(record), local)]++] = record;
+                        local.incrementSwaps();
+                    }
+                    return null;
+                });
+            }
+            ParallelUtils.invokeAll(scatterTasks);
+            if (cancelFlag.get()) return;
+
+            Statistics[] bucketStats = new Statistics[bucketCount];
+            List<Callable<Void>> sortTasks = new ArrayList<>();
+            for (int b = 0; b < bucketCount; b++) {
+                int bucket = b;
+                bucketStats[bucket] = stats.fork();
+                sortTasks.add(() -> {
+                    int start = bucketStarts[bucket];
+                    int length = bucketStarts[bucket + 1] - start;
+                    if (!cancelFlag.get()) {
+                        bucketSorter.introSort(target, start, start + length - 1, IntroSort.maxDepth(length), cancelFlag, bucketStats[bucket]);
+                    }
+                    System.arraycopy(target, start, array, start, length);
+                    return null;
+                });
+            }
+            ParallelUtils.invokeAll(sortTasks);
+
+            for (Statistics local : chunkStats) stats.add(local);
+            for (Statistics local : bucketStats) stats.add(local);
+        } catch (InterruptedException e) {
+            System.out.println("SampleSort interrompido: " + e.getMessage());
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private int[] chooseSplitters(long[] array, int bucketCount) {
+        int sampleSize = Math.min(array.length, bucketCount * OVERSAMPLING);
+        int[] sample = new int[sampleSize];
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < sampleSize; i++) {
+            sample[i] = RecordStore.areaNumber(array[random.nextInt(array.length)]);
+        }
+        Arrays.sort(sample);
+
+        int[] splitters = new int[bucketCount - 1];
+        int count = 0;
+        for (int i = 1; i < bucketCount; i++) {
+            int splitter = sample[i * sampleSize / bucketCount];
+            if (count == 0 || splitters[count - 1] != splitter) {
+                splitters[count++] = splitter;
+            }
+        }
+        return Arrays.copyOf(splitters, count);
+    }
+
+    private static int bucketOf(int[] splitters, int key, Statistics stats) {
+        int low = 0;
+        int high = splitters.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            stats.incrementComparisons();
+            if (splitters[middle] < key) low = middle + 1;
+            else high = middle;
+        }
+        return low;
+    }
+}
+
+class AdaptiveSort implements SortingAlgorithm {
+    private static final int SAMPLE_SIZE = 1024;
+    private static final int RUN_WINDOWS = 64;
+    private static final int RUN_WINDOW_SIZE = 16;
+
+    private static final int RADIX_MIN_SIZE = 1_000;
+    private static final int RADIX_MIN_SIZE_NARROW_KEYS = 256;
+    private static final int NARROW_KEY_RANGE_BITS = 11;
+    private static final double HIGH_DUPLICATE_RATIO = 0.5;
+    private static final double PRESORTED_RATIO = 0.1;
+    private static final double NEARLY_SORTED_RATIO = 0.01;
+    private static final int PARALLEL_MIN_SIZE = 4_000_000;
+    private static final int PARALLEL_MIN_THREADS = 8;
+
+    enum Route {
+        INTRO_SORT("IntroSort"),
+        TIM_SORT("TimSort"),
+        RADIX_SORT("RadixSort"),
+        PARALLEL("SampleSort");
+
+        private final String algorithmName;
+
+        Route(String algorithmName) {
+            this.algorithmName = algorithmName;
+        }
+
+        public String algorithmName() {
+            return algorithmName;
+        }
+    }
+
+    private final IntroSort introSort = new IntroSort();
+    private final TimSort timSort = new TimSort();
+    private final RadixSort radixSort = new RadixSort();
+    private final SampleSort sampleSort = new SampleSort();
+    private volatile InputFeatures lastFeatures;
+    private volatile Route lastRoute;
+
+    @Override
+    public Statistics createStatistics() {
+        return ForkJoinPool.commonPool().getParallelism() >= PARALLEL_MIN_THREADS ? new ConcurrentStatistics() : new CountingStatistics();
+    }
+
+    @Override
+    public void sort(RecordStore records, AtomicBoolean cancelFlag, Statistics stats) {
+        long[] array = records.records();
+        InputFeatures features = InputFeatures.sample(array, ForkJoinPool.commonPool().getParallelism());
+        Route route = choose(features);
+        lastFeatures = features;
+        lastRoute = route;
+
+        switch (route) {
+            case INTRO_SORT -> introSort.introSort(array, 0, array.length - 1, IntroSort.maxDepth(array.length), cancelFlag, stats);
+            case TIM_SORT -> timSort.timSort(array, cancelFlag, stats);
+            case RADIX_SORT -> radixSort.sort(records, cancelFlag, stats);
+            case PARALLEL -> sampleSort.sort(records, cancelFlag, stats);
+        }
+    }
+
+    static Route choose(InputFeatures features) {
+        if (features.descentRatio <= NEARLY_SORTED_RATIO) return Route.TIM_SORT;
+        if (features.parallelism >= PARALLEL_MIN_THREADS && features.size >= PARALLEL_MIN_SIZE) return Route.PARALLEL;
+
+        boolean narrowKeys = features.keyRangeBits <= NARROW_KEY_RANGE_BITS || features.duplicateRatio >= HIGH_DUPLICATE_RATIO;
+        if (features.size >= (narrowKeys ? RADIX_MIN_SIZE_NARROW_KEYS : RADIX_MIN_SIZE)) return Route.RADIX_SORT;
+        if (features.isPresorted()) return Route.TIM_SORT;
+        return Route.INTRO_SORT;
+    }
+
+    public String describeLastDecision() {
+        if (lastRoute == null) return "AdaptiveSort ainda não ordenou nenhum conjunto.";
+        return "AdaptiveSort escolheu " + lastRoute.algorithmName() + " (" + lastFeatures.describe() + ")";
+    }
+
+    static final class InputFeatures {
+        final int size;
+        final int parallelism;
+        final double descentRatio;
+        final double ascentRatio;
+        final double duplicateRatio;
+        final int minArea;
+        final int maxArea;
+        final int keyRangeBits;
+
+        private InputFeatures(int size, int parallelism, double descentRatio, double ascentRatio, double duplicateRatio, int minArea, int maxArea) {
+            this.size = size;
+            this.parallelism = parallelism;
+            this.descentRatio = descentRatio;
+            this.ascentRatio = ascentRatio;
+            this.duplicateRatio = duplicateRatio;
+            this.minArea = minArea;
+            this.maxArea = maxArea;
+            this.keyRangeBits = 64 - Long.numberOfLeadingZeros((long) maxArea - minArea);
+        }
+
+        static InputFeatures sample(long[] array, int parallelism) {
+            int n = array.length;
+            if (n < 2) return new InputFeatures(n, parallelism, 0, 0, 0, 0, 0);
+
+            int windows = Math.min(RUN_WINDOWS, Math.max(1, n / RUN_WINDOW_SIZE));
+            int windowSize = Math.min(RUN_WINDOW_SIZE, n);
+            long windowStride = (long) (n - windowSize) / Math.max(1, windows - 1);
+            int pairs = 0, descents = 0, ascents = 0;
+            for (int w = 0; w < windows; w++) {
+                int start = (int) (w * windowStride);
+                for (int i = start + 1; i < start + windowSize; i++) {
+                    int previous = RecordStore.areaNumber(array[i - 1]);
+                    int current = RecordStore.areaNumber(array[i]);
+                    if (previous > current) descents++;
+                    else if (previous < current) ascents++;
+                    pairs++;
+                }
+            }
+
+            int sampleSize = Math.min(SAMPLE_SIZE, n);
+            int[] keys = new int[sampleSize];
+            for (int i = 0; i < sampleSize; i++) {
+                keys[i] = RecordStore.areaNumber(array[(int) ((long) i * n / sampleSize)]);
+            }
+            Arrays.sort(keys);
+            int distinct = 1;
+            for (int i = 1; i < sampleSize; i++) {
+                if (keys[i] != keys[i - 1]) distinct++;
+            }
+
+            return new InputFeatures(n, parallelism, descents / (double) pairs, ascents / (double) pairs,
+                    1 - distinct / (double) sampleSize, keys[0], keys[sampleSize - 1]);
+        }
+
+        boolean isPresorted() {
+            return descentRatio <= PRESORTED_RATIO || ascentRatio <= PRESORTED_RATIO;
+        }
+
+        long estimatedRuns() {
+            return 1 + Math.round(Math.min(descentRatio, ascentRatio) * Math.max(0, size - 1));
+        }
+
+        String describe() {
+            return String.format("%d registros, ~%d sequências ordenadas (%.1f%% de descidas, %.1f%% de subidas), %.1f%% de duplicatas na amostra, chaves de %d a %d (%d bits), %d threads",
+                    size, estimatedRuns(), descentRatio * 100, ascentRatio * 100, duplicateRatio * 100, minArea, maxArea, keyRangeBits, parallelism);
+        }
+    }
+}
+
+class ExternalSorter {
+    private static final int MERGE_BUFFER_RECORDS = 1 << 13;
+    private static final int MAX_FAN_IN = 512;
+
+    private final SortingAlgorithm algorithm;
+    private final long memoryBudgetBytes;
+    private final int runSize;
+    private long recordCount;
+    private int runCount;
+    private int mergePasses;
+
+    public ExternalSorter(SortingAlgorithm algorithm, long memoryBudgetBytes, int runSize) {
+        this.algorithm = algorithm;
+        this.memoryBudgetBytes = memoryBudgetBytes;
+        this.runSize = runSize;
+    }
+
+    public void sort(String inputFile, String outputFile, AtomicBoolean cancelFlag, Statistics stats) throws IOException {
+        recordCount = 0;
+        runCount = 0;
+        mergePasses = 0;
+
+        Path workDirectory = Files.createTempDirectory("external_sort_");
+        List<Path> runs = new ArrayList<>();
+        try {
+            createRuns(inputFile, workDirectory, runs, cancelFlag, stats);
+            runCount = runs.size();
+
+            int fanIn = getMaxFanIn();
+            while (runs.size() > fanIn && !cancelFlag.get()) {
+                List<Path> nextRuns = new ArrayList<>();
+                for (int from = 0; from < runs.size(); from += fanIn) {
+                    List<Path> group = runs.subList(from, Math.min(from + fanIn, runs.size()));
+                    Path merged = workDirectory.resolve("merge_" + mergePasses + "_" + nextRuns.size() + BinaryDataset.EXTENSION);
+                    try (RecordWriter writer = new BinaryDataset.Writer(merged.toString())) {
+                        mergeRuns(group, writer, cancelFlag, stats);
+                    }
+                    for (Path run : group) {
+                        Files.deleteIfExists(run);
+                    }
+                    nextRuns.add(merged);
+                }
+                runs = nextRuns;
+                mergePasses++;
+            }
+
+            if (cancelFlag.get()) return;
+
+            try (RecordWriter writer = DataLoader.openWriter(outputFile)) {
+                mergeRuns(runs, writer, cancelFlag, stats);
+            }
+            mergePasses++;
+        } finally {
+            for (Path run : runs) {
+                Files.deleteIfExists(run);
+            }
+            try (DirectoryStream<Path> leftovers = Files.newDirectoryStream(workDirectory)) {
+                for (Path leftover : leftovers) {
+                    Files.deleteIfExists(leftover);
+                }
+            }
+            Files.deleteIfExists(workDirectory);
+        }
+    }
+
+    public int getEffectiveRunSize() {
+        int budgetRecords = (int) Math.max(1, Math.min(Integer.MAX_VALUE - 8, memoryBudgetBytes / (2L * Long.BYTES)));
+        return runSize > 0 ? Math.min(runSize, budgetRecords) : budgetRecords;
+    }
+
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    public int getRunCount() {
+        return runCount;
+    }
+
+    public int getMergePasses() {
+        return mergePasses;
+    }
+
+    private int getMaxFanIn() {
+        long buffers = memoryBudgetBytes / ((long) MERGE_BUFFER_RECORDS * Long.BYTES);
+        return (int) Math.max(2, Math.min(MAX_FAN_IN, buffers - 1));
+    }
+
+    private void createRuns(String inputFile, Path workDirectory, List<Path> runs, AtomicBoolean cancelFlag, Statistics stats) throws IOException {
+        long[] chunk = new long[getEffectiveRunSize()];
+        try (RecordReader reader = DataLoader.openReader(inputFile)) {
+            while (!cancelFlag.get()) {
+                int count = 0;
+                int read;
+                while (count < chunk.length && (read = reader.read(chunk, count, chunk.length - count)) >= 0) {
+                    count += read;
+                }
+                if (count == 0) break;
+
+                RecordStore run = new RecordStore(count == chunk.length ? chunk : Arrays.copyOf(chunk, count));
+                algorithm.sort(run, cancelFlag, stats);
+
+                Path runFile = workDirectory.resolve("run_" + runs.size() + BinaryDataset.EXTENSION);
+                try (RecordWriter writer = new BinaryDataset.Writer(runFile.toString())) {
+                    writer.write(run.records(), 0, count);
+                }
+                runs.add(runFile);
+                recordCount += count;
+
+                if (count < chunk.length) break;
+            }
+        }
+    }
+
+    private void mergeRuns(List<Path> runs, RecordWriter writer, AtomicBoolean cancelFlag, Statistics stats) throws IOException {
+        List<RunCursor> cursors = new ArrayList<>();
+        try {
+            for (int i = 0; i < runs.size(); i++) {
+                RunCursor cursor = new RunCursor(runs.get(i), i);
+                if (cursor.advance()) {
+                    cursors.add(cursor);
+                } else {
+                    cursor.close();
+                }
+            }
+
+            RunCursor[] heap = cursors.toArray(new RunCursor[0]);
+            int size = heap.length;
+            for (int i = size / 2 - 1; i >= 0; i--) {
+                siftDown(heap, i, size, stats);
+            }
+
+            long written = 0;
+            while (size > 0) {
+                if ((++written & 0xFFFF) == 0 && cancelFlag.get()) return;
+
+                RunCursor smallest = heap[0];
+                writer.write(smallest.current);
+                stats.incrementSwaps();
+
+                if (!smallest.advance()) {
+                    heap[0] = heap[--size];
+                }
+                siftDown(heap, 0, size, stats);
+            }
+        } finally {
+            for (RunCursor cursor : cursors) {
+                cursor.close();
+            }
+        }
+    }
+
+    private void siftDown(RunCursor[] heap, int i, int size, Statistics stats) {
+        while (true) {
+            int smallest = i;
+            int left = 2 * i + 1;
+            int right = left + 1;
+
+            if (left < size) {
+                stats.incrementComparisons();
+                if (heap[left].compareTo(heap[smallest]) < 0) smallest = left;
+            }
+            if (right < size) {
+                stats.incrementComparisons();
+                if (heap[right].compareTo(heap[smallest]) < 0) smallest = right;
+            }
+            if (smallest == i) return;
+
+            RunCursor temp = heap[i];
+            heap[i] = heap[smallest];
+            heap[smallest] = temp;
+            i = smallest;
+        }
+    }
+
+    private static class RunCursor implements Comparable<RunCursor>, Closeable {
+        private final BinaryDataset.Reader reader;
+        private final int order;
+        private final long[] buffer = new long[MERGE_BUFFER_RECORDS];
+        private int position;
+        private int limit;
+        private long current;
+
+        RunCursor(Path run, int order) throws IOException {
+            this.reader = new BinaryDataset.Reader(run.toString(), MERGE_BUFFER_RECORDS);
+            this.order = order;
+        }
+
+        boolean advance() throws IOException {
+            if (position == limit) {
+                limit = reader.read(buffer, 0, buffer.length);
+                position = 0;
+                if (limit <= 0) return false;
+            }
+            current = buffer[position++];
+            return true;
+        }
+
+        @Override
+        public int compareTo(RunCursor other) {
+            int result = Integer.compare(RecordStore.areaNumber(current), RecordStore.areaNumber(other.current));
+            return result != 0 ? result : Integer.compare(order, other.order);
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+}
+
+class IncrementalMerger {
+    enum Policy {
+        LATEST_STATUS_WINS,
+        KEEP_ALL
+    }
+
+    private static final int STREAM_BUFFER_RECORDS = 1 << 13;
+
+    private final Policy policy;
+    private long insertedCount;
+    private long updatedCount;
+
+    public IncrementalMerger(Policy policy) {
+        this.policy = policy;
+    }
+
+    public long getInsertedCount() {
+        return insertedCount;
+    }
+
+    public long getUpdatedCount() {
+        return updatedCount;
+    }
+
+    public RecordStore merge(RecordStore sortedData, RecordStore batch, AtomicBoolean cancelFlag, Statistics stats) {
+        if (!StateCatalog.isSortedByArea(sortedData)) {
+            throw new IllegalArgumentException("O conjunto base precisa estar ordenado por número de área");
+        }
+        insertedCount = 0;
+        updatedCount = 0;
+
+        long[] base = sortedData.records();
+        long[] updates = prepareBatch(batch, cancelFlag, stats);
+        long[] merged = new long[base.length + updates.length];
+        int i = 0, j = 0, k = 0;
+
+        while (i < base.length && j < updates.length) {
+            if ((k & 0xFFFF) == 0 && cancelFlag.get()) break;
+
+            int baseArea = RecordStore.areaNumber(base[i]);
+            int updateArea = RecordStore.areaNumber(updates[j]);
+            stats.incrementComparisons();
+            if (baseArea < updateArea || (baseArea == updateArea && policy == Policy.KEEP_ALL)) {
+                merged[k++] = base[i++];
+            } else if (baseArea > updateArea) {
+                merged[k++] = updates[j++];
+                insertedCount++;
+            } else {
+                while (i < base.length && RecordStore.areaNumber(base[i]) == updateArea) {
+                    i++;
+                    updatedCount++;
+                }
+                merged[k++] = updates[j++];
+            }
+        }
+        while (i < base.length) merged[k++] = base[i++];
+        while (j < updates.length) {
+            merged[k++] = updates[j++];
+            insertedCount++;
+        }
+        stats.addSwaps(k);
+
+        return new RecordStore(k == merged.length ? merged : Arrays.copyOf(merged, k));
+    }
+
+    public long mergeFiles(String sortedFile, String batchFile, String outputFile, AtomicBoolean cancelFlag, Statistics stats) throws IOException {
+        insertedCount = 0;
+        updatedCount = 0;
+
+        long[] updates = prepareBatch(DataLoader.loadDataFromFile(batchFile), cancelFlag, stats);
+        long[] buffer = new long[STREAM_BUFFER_RECORDS];
+        long written = 0;
+        int j = 0;
+        int previousArea = Integer.MIN_VALUE;
+
+        try (RecordReader reader = DataLoader.openReader(sortedFile);
+             RecordWriter writer = DataLoader.openWriter(outputFile)) {
+            int read;
+            while ((read = reader.read(buffer, 0, buffer.length)) >= 0 && !cancelFlag.get()) {
+                for (int i = 0; i < read; i++) {
+                    int baseArea = RecordStore.areaNumber(buffer[i]);
+                    if (baseArea < previousArea) {
+                        throw new IOException("O arquivo base não está ordenado por número de área: " + sortedFile);
+                    }
+                    previousArea = baseArea;
+
+                    while (j < updates.length && RecordStore.areaNumber(updates[j]) < baseArea) {
+                        stats.incrementComparisons();
+                        writer.write(updates[j++]);
+                        insertedCount++;
+                        written++;
+                    }
+                    if (policy == Policy.LATEST_STATUS_WINS && j > 0 && RecordStore.areaNumber(updates[j - 1]) == baseArea) {
+                        updatedCount++;
+                        continue;
+                    }
+                    if (policy == Policy.LATEST_STATUS_WINS && j < updates.length && RecordStore.areaNumber(updates[j]) == baseArea) {
+                        stats.incrementComparisons();
+                        writer.write(updates[j++]);
+                        updatedCount++;
+                        written++;
+                        continue;
+                    }
+                    writer.write(buffer[i]);
+                    written++;
+                }
+            }
+            while (j < updates.length && !cancelFlag.get()) {
+                writer.write(updates[j++]);
+                insertedCount++;
+                written++;
+            }
+        }
+        stats.addSwaps(written);
+        return written;
+    }
+
+    private long[] prepareBatch(RecordStore batch, AtomicBoolean cancelFlag, Statistics stats) {
+        RecordStore updates = batch.copy();
+        new RadixSort().sort(updates, cancelFlag, stats);
+        long[] records = updates.records();
+        if (policy == Policy.KEEP_ALL || records.length < 2) return records;
+
+        int kept = 0;
+        for (int i = 0; i < records.length; i++) {
+            if (i + 1 < records.length && RecordStore.areaNumber(records[i + 1]) == RecordStore.areaNumber(records[i])) continue;
+            records[kept++] = records[i];
+        }
+        return kept == records.length ? records : Arrays.copyOf(records, kept);
+    }
+}
+
+class Selector {
+    public static final int ANY = -1;
+
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    private final QuickSort partitioner = new QuickSort();
+    private final HeapSort fallback = new HeapSort();
+    private final AtomicBoolean cancelFlag;
+    private final Statistics stats;
+
+    public Selector(AtomicBoolean cancelFlag, Statistics stats) {
+        this.cancelFlag = cancelFlag;
+        this.stats = stats;
     }
 
-    private int compare(String a, String b) {
-        return Integer.compare(extractNumericPart(a), extractNumericPart(b));
+    public static long[] filter(RecordStore data, int state, int status) {
+        int fromArea = state == ANY ? Integer.MIN_VALUE : StateCatalog.stateLowerBound(state);
+        int toArea = state == ANY ? Integer.MAX_VALUE : StateCatalog.STATE_UPPER_BOUNDS[state];
+        return Arrays.stream(data.records())
+                .parallel()
+                .filter(record -> RecordStore.areaNumber(record) >= fromArea && RecordStore.areaNumber(record) <= toArea
+                        && (status == ANY || RecordStore.status(record) == status))
+                .toArray();
     }
 
-    private int extractNumericPart(String data) {
-        return Integer.parseInt(data.split(":")[0]);
+    public long select(long[] array, int k) {
+        if (k < 0 || k >= array.length) {
+            throw new IllegalArgumentException("Posição " + k + " fora do intervalo de " + array.length + " registros");
+        }
+        selectRange(array, 0, array.length - 1, new int[]{k}, 0, 0, IntroSort.maxDepth(array.length));
+        return array[k];
     }
-}
 
+    public long[] topK(long[] array, int k) {
+        k = Math.min(k, array.length);
+        if (k <= 0) return new long[0];
 
+        int from = array.length - k;
+        if (from > 0) select(array, from);
+        partitioner.quickSortIterative(array, from, array.length - 1, cancelFlag, stats);
 
-class IntroSort implements SortingAlgorithm {
-    private static final int INSERTION_SORT_THRESHOLD = 32;
+        long[] top = new long[k];
+        for (int i = 0; i < k; i++) top[i] = array[array.length - 1 - i];
+        return top;
+    }
 
-    @Override
-    public void sort(String[] array, AtomicBoolean cancelFlag, Statistics stats) {
-        int maxDepth = (int) (2 * Math.log(array.length) / Math.log(2));
-        int totalSize = array.length;
-        int[] progress = {0};
+    public long[] quantiles(long[] array, double... fractions) {
+        if (array.length == 0) return new long[0];
 
-        introSort(array, 0, array.length - 1, maxDepth, cancelFlag, stats, progress, totalSize);
-        ProgressUtils.displayProgress("IntroSort", totalSize, totalSize);
-        System.out.println("\nIntroSort concluído.");
+        int[] ranks = new int[fractions.length];
+        for (int i = 0; i < fractions.length; i++) {
+            if (fractions[i] < 0 || fractions[i] > 1) {
+                throw new IllegalArgumentException("Quantil fora de [0, 1]: " + fractions[i]);
+            }
+            ranks[i] = (int) Math.min(array.length - 1, Math.floor(fractions[i] * (array.length - 1) + 0.5));
+        }
+        int[] sortedRanks = Arrays.stream(ranks).sorted().distinct().toArray();
+        selectRange(array, 0, array.length - 1, sortedRanks, 0, sortedRanks.length - 1, IntroSort.maxDepth(array.length));
 
-        FileUtils.saveArrayToFile(array, "IntroSort");
+        long[] values = new long[ranks.length];
+        for (int i = 0; i < ranks.length; i++) values[i] = array[ranks[i]];
+        return values;
     }
 
-    private void introSort(String[] array, int low, int high, int depthLimit, AtomicBoolean cancelFlag, Statistics stats, int[] progress, int totalSize) {
-        while (high - low > INSERTION_SORT_THRESHOLD) {
-            if (cancelFlag.get()) return;
-
-            if (depthLimit == 0) {
-                HeapSort heapSort = new HeapSort();
-                heapSort.sort(array, cancelFlag, stats);
+    private void selectRange(long[] array, int low, int high, int[] ranks, int firstRank, int lastRank, int depthLimit) {
+        while (firstRank <= lastRank && !cancelFlag.get()) {
+            if (high - low <= INSERTION_SORT_THRESHOLD) {
+                SortingUtils.insertionSort(array, low, high, stats);
+                return;
+            }
+            if (depthLimit-- == 0) {
+                fallback.sort(array, low, high, cancelFlag, stats);
                 return;
             }
 
-            int pivotIndex = partition(array, low, high, stats);
-            depthLimit--;
+            int pivotIndex = partitioner.medianOfThreePartition(array, low, high, stats);
+            int split = lowerRank(ranks, firstRank, lastRank, pivotIndex);
+            int firstAbove = split <= lastRank && ranks[split] == pivotIndex ? split + 1 : split;
 
-            if (pivotIndex - low < high - pivotIndex) {
-                introSort(array, low, pivotIndex - 1, depthLimit, cancelFlag, stats, progress, totalSize);
+            if (split - firstRank < lastRank - firstAbove + 1) {
+                selectRange(array, low, pivotIndex - 1, ranks, firstRank, split - 1, depthLimit);
                 low = pivotIndex + 1;
+                firstRank = firstAbove;
             } else {
-                introSort(array, pivotIndex + 1, high, depthLimit, cancelFlag, stats, progress, totalSize);
+                selectRange(array, pivotIndex + 1, high, ranks, firstAbove, lastRank, depthLimit);
                 high = pivotIndex - 1;
-            }
-
-
-            progress[0] += high - low + 1;
-            if (progress[0] % (totalSize / 100) == 0 || progress[0] >= totalSize) {
-                ProgressUtils.displayProgress("IntroSort", progress[0], totalSize);
+                lastRank = split - 1;
             }
         }
-
-        SortingUtils.insertionSort(array, low, high, stats);
     }
 
-
-
-    private int partition(String[] array, int low, int high, Statistics stats) {
-        String pivot = array[high];
-        int i = low - 1;
-        for (int j = low; j < high; j++) {
-            stats.incrementComparisons();
-            if (array[j].compareTo(pivot) <= 0) {
-                i++;
-                swap(array, i, j, stats);
-            }
+    private static int lowerRank(int[] ranks, int from, int to, int position) {
+        int low = from;
+        int high = to + 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ranks[mid] < position) low = mid + 1;
+            else high = mid;
         }
-        swap(array, i + 1, high, stats);
-        return i + 1;
-    }
-
-    private void swap(String[] array, int i, int j, Statistics stats) {
-        String temp = array[i];
-        array[i] = array[j];
-        array[j] = temp;
-        stats.incrementSwaps();
+        return low;
     }
 }
 
 class FileUtils {
-    public static void saveArrayToFile(String[] array, String algorithmName) {
+    public static void saveArrayToFile(long[] array, String algorithmName) {
         File outputFolder = new File("sorted_data");
         if (!outputFolder.exists() && !outputFolder.mkdir()) {
             System.out.println("Falha ao criar o diretório sorted_data.");
@@ -1667,103 +5169,450 @@ class FileUtils {
         String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
         File outputFile = new File(outputFolder, algorithmName + "_sorted_" + timestamp + ".txt");
 
-        try (PrintWriter writer = new PrintWriter(new FileWriter(outputFile))) {
-            for (String value : array) {
-                writer.println(value);
+        try (PrintWriter writer = new PrintWriter(new BufferedWriter(new FileWriter(outputFile)))) {
+            for (long record : array) {
+                writer.println(RecordStore.format(record));
             }
             System.out.println("Resultado da ordenação salvo em: " + outputFile.getAbsolutePath());
         } catch (IOException e) {
             System.out.println("Erro ao salvar o resultado da ordenação: " + e.getMessage());
         }
     }
+
+    public static void deleteDirectory(Path directory) throws IOException {
+        if (!Files.exists(directory)) return;
+        try (java.util.stream.Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
 }
 
 
 
 class TimSort implements SortingAlgorithm {
-    private static final int RUN = 32;
+    private static final int MIN_MERGE = 32;
+    private static final int MIN_GALLOP = 7;
+    private static final int INITIAL_TMP_LENGTH = 256;
+    private static final int MAX_RUN_STACK = 49;
+
+    private final int[] runBase = new int[MAX_RUN_STACK];
+    private final int[] runLen = new int[MAX_RUN_STACK];
+    private long[] tmp;
+    private long[] array;
+    private Statistics stats;
+    private int stackSize;
+    private int minGallop;
 
     @Override
-    public void sort(String[] array, AtomicBoolean cancelFlag, Statistics stats) {
+    public void sort(RecordStore records, AtomicBoolean cancelFlag, Statistics stats) {
+        timSort(records.records(), cancelFlag, stats);
+    }
+
+    void timSort(long[] array, AtomicBoolean cancelFlag, Statistics stats) {
         int n = array.length;
-        int processed = 0;
+        if (n < 2 || cancelFlag.get()) return;
 
-        ProgressUtils.initializeProgress("TimSort");
+        this.array = array;
+        this.stats = stats;
+        this.stackSize = 0;
+        this.minGallop = MIN_GALLOP;
+        try {
+            if (n < MIN_MERGE) {
+                binarySort(0, n, countRunAndMakeAscending(0, n));
+                return;
+            }
 
-        for (int i = 0; i < n; i += RUN) {
-            if (cancelFlag.get()) return;
-            int end = Math.min((i + RUN - 1), (n - 1));
-            SortingUtils.insertionSort(array, i, end, stats);
+            int minRun = minRunLength(n);
+            int low = 0;
+            int remaining = n;
+            do {
+                if (cancelFlag.get()) return;
 
-            processed += end - i + 1;
-            ProgressUtils.displayProgress("TimSort", processed, n);
+                int runLength = countRunAndMakeAscending(low, n);
+                if (runLength < minRun) {
+                    int forced = Math.min(remaining, minRun);
+                    binarySort(low, low + forced, low + runLength);
+                    runLength = forced;
+                }
+
+                pushRun(low, runLength);
+                mergeCollapse();
+
+                low += runLength;
+                remaining -= runLength;
+            } while (remaining != 0);
+
+            mergeForceCollapse();
+        } finally {
+            this.array = null;
+            this.stats = null;
         }
+    }
 
-        for (int size = RUN; size < n; size = 2 * size) {
-            for (int left = 0; left < n; left += 2 * size) {
-                if (cancelFlag.get()) return;
-                int mid = Math.min(left + size - 1, n - 1);
-                int right = Math.min(left + 2 * size - 1, n - 1);
+    static int minRunLength(int n) {
+        int lowBits = 0;
+        while (n >= MIN_MERGE) {
+            lowBits |= n & 1;
+            n >>= 1;
+        }
+        return n + lowBits;
+    }
+
+    private int countRunAndMakeAscending(int low, int high) {
+        int runHigh = low + 1;
+        if (runHigh == high) return 1;
+
+        if (less(array[runHigh++], array[low])) {
+            while (runHigh < high && less(array[runHigh], array[runHigh - 1])) runHigh++;
+            reverseRange(low, runHigh);
+        } else {
+            while (runHigh < high && !less(array[runHigh], array[runHigh - 1])) runHigh++;
+        }
+        return runHigh - low;
+    }
+
+    private void reverseRange(int low, int high) {
+        high--;
+        while (low < high) {
+            long temp = array[low];
+            array[low++] = array[high];
+            array[high--] = temp;
+            stats.incrementSwaps();
+        }
+    }
+
+    private void binarySort(int low, int high, int start) {
+        if (start == low) start++;
+        for (; start < high; start++) {
+            long pivot = array[start];
+            int left = low;
+            int right = start;
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                if (less(pivot, array[mid])) right = mid;
+                else left = mid + 1;
+            }
+
+            int moved = start - left;
+            System.arraycopy(array, left, array, left + 1, moved);
+            array[left] = pivot;
+            stats.addSwaps(moved + 1);
+        }
+    }
 
-                merge(array, left, mid, right, stats);
+    private void pushRun(int base, int length) {
+        runBase[stackSize] = base;
+        runLen[stackSize] = length;
+        stackSize++;
+    }
 
-                processed += Math.min(2 * size, n - left);
-                ProgressUtils.displayProgress("TimSort", processed, n);
+    private void mergeCollapse() {
+        while (stackSize > 1) {
+            int n = stackSize - 2;
+            if (n > 0 && runLen[n - 1] <= runLen[n] + runLen[n + 1]
+                    || n > 1 && runLen[n - 2] <= runLen[n] + runLen[n - 1]) {
+                if (runLen[n - 1] < runLen[n + 1]) n--;
+            } else if (runLen[n] > runLen[n + 1]) {
+                break;
             }
+            mergeAt(n);
         }
+    }
 
-        ProgressUtils.displayProgress("TimSort", n, n);
-        System.out.println("\nTimSort concluído.");
-        saveSortedArray(array);
+    private void mergeForceCollapse() {
+        while (stackSize > 1) {
+            int n = stackSize - 2;
+            if (n > 0 && runLen[n - 1] < runLen[n + 1]) n--;
+            mergeAt(n);
+        }
     }
 
-    private void merge(String[] array, int left, int mid, int right, Statistics stats) {
-        int n1 = mid - left + 1;
-        int n2 = right - mid;
+    private void mergeAt(int i) {
+        int base1 = runBase[i];
+        int len1 = runLen[i];
+        int base2 = runBase[i + 1];
+        int len2 = runLen[i + 1];
 
+        runLen[i] = len1 + len2;
+        if (i == stackSize - 3) {
+            runBase[i + 1] = runBase[i + 2];
+            runLen[i + 1] = runLen[i + 2];
+        }
+        stackSize--;
 
-        String[] leftArray = new String[n1];
-        String[] rightArray = new String[n2];
-        System.arraycopy(array, left, leftArray, 0, n1);
-        System.arraycopy(array, mid + 1, rightArray, 0, n2);
+        int skipped = gallopRight(array[base2], array, base1, len1, 0);
+        base1 += skipped;
+        len1 -= skipped;
+        if (len1 == 0) return;
 
+        len2 = gallopLeft(array[base1 + len1 - 1], array, base2, len2, len2 - 1);
+        if (len2 == 0) return;
 
-        int i = 0, j = 0, k = left;
-        while (i < n1 && j < n2) {
-            stats.incrementComparisons();
-            if (leftArray[i].compareTo(rightArray[j]) <= 0) {
-                array[k++] = leftArray[i++];
-            } else {
-                array[k++] = rightArray[j++];
+        if (len1 <= len2) mergeLow(base1, len1, base2, len2);
+        else mergeHigh(base1, len1, base2, len2);
+    }
+
+    private int gallopLeft(long key, long[] source, int base, int length, int hint) {
+        int lastOffset = 0;
+        int offset = 1;
+        if (less(source[base + hint], key)) {
+            int maxOffset = length - hint;
+            while (offset < maxOffset && less(source[base + hint + offset], key)) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) offset = maxOffset;
             }
-            stats.incrementSwaps();
+            if (offset > maxOffset) offset = maxOffset;
+            lastOffset += hint;
+            offset += hint;
+        } else {
+            int maxOffset = hint + 1;
+            while (offset < maxOffset && !less(source[base + hint - offset], key)) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) offset = maxOffset;
+            }
+            if (offset > maxOffset) offset = maxOffset;
+            int temp = lastOffset;
+            lastOffset = hint - offset;
+            offset = hint - temp;
         }
 
+        lastOffset++;
+        while (lastOffset < offset) {
+            int mid = lastOffset + ((offset - lastOffset) >>> 1);
+            if (less(source[base + mid], key)) lastOffset = mid + 1;
+            else offset = mid;
+        }
+        return offset;
+    }
 
-        while (i < n1) {
-            array[k++] = leftArray[i++];
-            stats.incrementSwaps();
+    private int gallopRight(long key, long[] source, int base, int length, int hint) {
+        int lastOffset = 0;
+        int offset = 1;
+        if (less(key, source[base + hint])) {
+            int maxOffset = hint + 1;
+            while (offset < maxOffset && less(key, source[base + hint - offset])) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) offset = maxOffset;
+            }
+            if (offset > maxOffset) offset = maxOffset;
+            int temp = lastOffset;
+            lastOffset = hint - offset;
+            offset = hint - temp;
+        } else {
+            int maxOffset = length - hint;
+            while (offset < maxOffset && !less(key, source[base + hint + offset])) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) offset = maxOffset;
+            }
+            if (offset > maxOffset) offset = maxOffset;
+            lastOffset += hint;
+            offset += hint;
         }
 
+        lastOffset++;
+        while (lastOffset < offset) {
+            int mid = lastOffset + ((offset - lastOffset) >>> 1);
+            if (less(key, source[base + mid])) offset = mid;
+            else lastOffset = mid + 1;
+        }
+        return offset;
+    }
 
-        while (j < n2) {
-            array[k++] = rightArray[j++];
-            stats.incrementSwaps();
+    private void mergeLow(int base1, int len1, int base2, int len2) {
+        long[] a = array;
+        long[] buffer = ensureCapacity(len1);
+        System.arraycopy(a, base1, buffer, 0, len1);
+        stats.addSwaps(len1 + len2);
+
+        int cursor1 = 0;
+        int cursor2 = base2;
+        int dest = base1;
+        a[dest++] = a[cursor2++];
+        if (--len2 == 0) {
+            System.arraycopy(buffer, cursor1, a, dest, len1);
+            return;
+        }
+        if (len1 == 1) {
+            System.arraycopy(a, cursor2, a, dest, len2);
+            a[dest + len2] = buffer[cursor1];
+            return;
+        }
+
+        int gallop = minGallop;
+        outer:
+        while (true) {
+            int count1 = 0;
+            int count2 = 0;
+
+            do {
+                if (less(a[cursor2], buffer[cursor1])) {
+                    a[dest++] = a[cursor2++];
+                    count2++;
+                    count1 = 0;
+                    if (--len2 == 0) break outer;
+                } else {
+                    a[dest++] = buffer[cursor1++];
+                    count1++;
+                    count2 = 0;
+                    if (--len1 == 1) break outer;
+                }
+            } while ((count1 | count2) < gallop);
+
+            do {
+                count1 = gallopRight(a[cursor2], buffer, cursor1, len1, 0);
+                if (count1 != 0) {
+                    System.arraycopy(buffer, cursor1, a, dest, count1);
+                    dest += count1;
+                    cursor1 += count1;
+                    len1 -= count1;
+                    if (len1 <= 1) break outer;
+                }
+                a[dest++] = a[cursor2++];
+                if (--len2 == 0) break outer;
+
+                count2 = gallopLeft(buffer[cursor1], a, cursor2, len2, 0);
+                if (count2 != 0) {
+                    System.arraycopy(a, cursor2, a, dest, count2);
+                    dest += count2;
+                    cursor2 += count2;
+                    len2 -= count2;
+                    if (len2 == 0) break outer;
+                }
+                a[dest++] = buffer[cursor1++];
+                if (--len1 == 1) break outer;
+                gallop--;
+            } while (count1 >= MIN_GALLOP | count2 >= MIN_GALLOP);
+
+            if (gallop < 0) gallop = 0;
+            gallop += 2;
+        }
+        minGallop = Math.max(gallop, 1);
+
+        if (len1 == 1) {
+            System.arraycopy(a, cursor2, a, dest, len2);
+            a[dest + len2] = buffer[cursor1];
+        } else {
+            System.arraycopy(buffer, cursor1, a, dest, len1);
         }
     }
 
-    private void saveSortedArray(String[] array) {
-        String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
-        File outputFile = new File("output_data", "TimSort_sorted_" + timestamp + ".txt");
+    private void mergeHigh(int base1, int len1, int base2, int len2) {
+        long[] a = array;
+        long[] buffer = ensureCapacity(len2);
+        System.arraycopy(a, base2, buffer, 0, len2);
+        stats.addSwaps(len1 + len2);
+
+        int cursor1 = base1 + len1 - 1;
+        int cursor2 = len2 - 1;
+        int dest = base2 + len2 - 1;
+        a[dest--] = a[cursor1--];
+        if (--len1 == 0) {
+            System.arraycopy(buffer, 0, a, dest - (len2 - 1), len2);
+            return;
+        }
+        if (len2 == 1) {
+            dest -= len1;
+            cursor1 -= len1;
+            System.arraycopy(a, cursor1 + 1, a, dest + 1, len1);
+            a[dest] = buffer[cursor2];
+            return;
+        }
+
+        int gallop = minGallop;
+        outer:
+        while (true) {
+            int count1 = 0;
+            int count2 = 0;
+
+            do {
+                if (less(buffer[cursor2], a[cursor1])) {
+                    a[dest--] = a[cursor1--];
+                    count1++;
+                    count2 = 0;
+                    if (--len1 == 0) break outer;
+                } else {
+                    a[dest--] = buffer[cursor2--];
+                    count2++;
+                    count1 = 0;
+                    if (--len2 == 1) break outer;
+                }
+            } while ((count1 | count2) < gallop);
+
+            do {
+                count1 = len1 - gallopRight(buffer[cursor2], a, base1, len1, len1 - 1);
+                if (count1 != 0) {
+                    dest -= count1;
+                    cursor1 -= count1;
+                    len1 -= count1;
+                    System.arraycopy(a, cursor1 + 1, a, dest + 1, count1);
+                    if (len1 == 0) break outer;
+                }
+                a[dest--] = buffer[cursor2--];
+                if (--len2 == 1) break outer;
+
+                count2 = len2 - gallopLeft(a[cursor1], buffer, 0, len2, len2 - 1);
+                if (count2 != 0) {
+                    dest -= count2;
+                    cursor2 -= count2;
+                    len2 -= count2;
+                    System.arraycopy(buffer, cursor2 + 1, a, dest + 1, count2);
+                    if (len2 <= 1) break outer;
+                }
+                a[dest--] = a[cursor1--];
+                if (--len1 == 0) break outer;
+                gallop--;
+            } while (count1 >= MIN_GALLOP | count2 >= MIN_GALLOP);
+
+            if (gallop < 0) gallop = 0;
+            gallop += 2;
+        }
+        minGallop = Math.max(gallop, 1);
+
+        if (len2 == 1) {
+            dest -= len1;
+            cursor1 -= len1;
+            System.arraycopy(a, cursor1 + 1, a, dest + 1, len1);
+            a[dest] = buffer[cursor2];
+        } else {
+            System.arraycopy(buffer, 0, a, dest - (len2 - 1), len2);
+        }
+    }
 
-        try (PrintWriter writer = new PrintWriter(new FileWriter(outputFile))) {
-            for (String value : array) {
-                writer.println(value);
+    private long[] ensureCapacity(int minCapacity) {
+        if (tmp == null || tmp.length < minCapacity) {
+            int newSize = Math.max(INITIAL_TMP_LENGTH, Integer.highestOneBit(minCapacity) << 1);
+            if (newSize < 0) newSize = minCapacity;
+            tmp = new long[Math.min(newSize, Math.max(minCapacity, array.length >>> 1))];
+        }
+        return tmp;
+    }
+
+    private boolean less(long a, long b) {
+        stats.incrementComparisons();
+        return RecordStore.areaNumber(a) < RecordStore.areaNumber(b);
+    }
+}
+
+class ParallelUtils {
+    public static <T> List<T> invokeAll(List<Callable<T>> tasks) throws InterruptedException {
+        List<T> results = new ArrayList<>(tasks.size());
+        for (Future<T> future : ForkJoinPool.commonPool().invokeAll(tasks)) {
+            try {
+                results.add(future.get());
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException runtimeException) throw runtimeException;
+                if (cause instanceof Error error) throw error;
+                throw new IllegalStateException("Falha em tarefa paralela", cause);
             }
-            System.out.println("\nArray ordenado salvo em: " + outputFile.getAbsolutePath());
-        } catch (IOException e) {
-            System.out.println("\nErro ao salvar o array ordenado: " + e.getMessage());
         }
+        return results;
     }
 }
 
@@ -1779,7 +5628,7 @@ class ProgressUtils {
 
     public static void displayProgress(String algorithmName, int completed, int total) {
         synchronized (LOCK) {
-            int progress = Math.min((completed * 100) / total, 100);
+            int progress = total > 0 ? (int) Math.min(completed * 100L / total, 100) : 100;
             if (progress == progressMap.getOrDefault(algorithmName, -1)) {
                 return;
             }
@@ -1807,40 +5656,30 @@ class ProgressUtils {
 
 class DualPivotQuickSort implements SortingAlgorithm {
     @Override
-    public void sort(String[] array, AtomicBoolean cancelFlag, Statistics stats) {
-        int[] progress = {0};
-        int totalSize = array.length;
-
-        ProgressUtils.initializeProgress("DualPivotQuickSort");
-        dualPivotQuickSort(array, 0, array.length - 1, cancelFlag, stats, progress, totalSize);
-
-        ProgressUtils.displayProgress("DualPivotQuickSort", totalSize, totalSize);
-        System.out.println("\nDualPivotQuickSort concluído.");
-        saveSortedArray(array);
+    public void sort(RecordStore records, AtomicBoolean cancelFlag, Statistics stats) {
+        long[] array = records.records();
+        dualPivotQuickSort(array, 0, array.length - 1, cancelFlag, stats);
     }
 
-    private void dualPivotQuickSort(String[] array, int low, int high, AtomicBoolean cancelFlag, Statistics stats, int[] progress, int totalSize) {
+    private void dualPivotQuickSort(long[] array, int low, int high, AtomicBoolean cancelFlag, Statistics stats) {
         if (low < high && !cancelFlag.get()) {
             int[] pivots = partition(array, low, high, stats);
 
-            dualPivotQuickSort(array, low, pivots[0] - 1, cancelFlag, stats, progress, totalSize);
-            dualPivotQuickSort(array, pivots[0] + 1, pivots[1] - 1, cancelFlag, stats, progress, totalSize);
-            dualPivotQuickSort(array, pivots[1] + 1, high, cancelFlag, stats, progress, totalSize);
-
-            progress[0] += high - low + 1;
-            ProgressUtils.displayProgress("DualPivotQuickSort", progress[0], totalSize);
+            dualPivotQuickSort(array, low, pivots[0] - 1, cancelFlag, stats);
+            dualPivotQuickSort(array, pivots[0] + 1, pivots[1] - 1, cancelFlag, stats);
+            dualPivotQuickSort(array, pivots[1] + 1, high, cancelFlag, stats);
         }
     }
 
 
 
-    private int[] partition(String[] array, int low, int high, Statistics stats) {
+    private int[] partition(long[] array, int low, int high, Statistics stats) {
         if (compare(array[low], array[high]) > 0) {
             swap(array, low, high, stats);
         }
 
-        String pivot1 = array[low];
-        String pivot2 = array[high];
+        long pivot1 = array[low];
+        long pivot2 = array[high];
         int i = low + 1, lt = low + 1, gt = high - 1;
 
         while (i <= gt) {
@@ -1860,23 +5699,543 @@ class DualPivotQuickSort implements SortingAlgorithm {
         return new int[]{lt, gt};
     }
 
-    private void swap(String[] array, int i, int j, Statistics stats) {
-        String temp = array[i];
+    private void swap(long[] array, int i, int j, Statistics stats) {
+        long temp = array[i];
         array[i] = array[j];
         array[j] = temp;
         stats.incrementSwaps();
     }
 
-    private int compare(String a, String b) {
-        return Integer.compare(extractNumericPart(a), extractNumericPart(b));
+    private int compare(long a, long b) {
+        return Integer.compare(RecordStore.areaNumber(a), RecordStore.areaNumber(b));
+    }
+}
+
+class BenchmarkSuite {
+    public static final Map<String, Supplier<SortingAlgorithm>> ALGORITHMS = createRegistry();
+
+    private static final String RESULT_PREFIX = "RESULT\t";
+    private static final String ERROR_PREFIX = "ERROR\t";
+    private static volatile long blackhole;
+
+    private final List<String> algorithms;
+    private final List<Integer> sizes;
+    private final List<DatasetShape> shapes;
+    private final int warmupIterations;
+    private final int measurementIterations;
+    private final int forks;
+    private final long seed;
+
+    public BenchmarkSuite(List<String> algorithms, List<Integer> sizes, List<DatasetShape> shapes, int warmupIterations, int measurementIterations, int forks, long seed) {
+        this.algorithms = algorithms;
+        this.sizes = sizes;
+        this.shapes = shapes;
+        this.warmupIterations = warmupIterations;
+        this.measurementIterations = measurementIterations;
+        this.forks = forks;
+        this.seed = seed;
+    }
+
+    private static Map<String, Supplier<SortingAlgorithm>> createRegistry() {
+        Map<String, Supplier<SortingAlgorithm>> registry = new LinkedHashMap<>();
+        registry.put("QuickSort", QuickSort::new);
+        registry.put("ThreeWayQuickSort", ThreeWayQuickSort::new);
+        registry.put("MergeSort", MergeSort::new);
+        registry.put("HeapSort", HeapSort::new);
+        registry.put("IntroSort", IntroSort::new);
+        registry.put("TimSort", TimSort::new);
+        registry.put("DualPivotQuickSort", DualPivotQuickSort::new);
+        registry.put("RadixSort", RadixSort::new);
+        registry.put("ParallelMergeSort", ParallelMergeSort::new);
+        registry.put("ParallelQuickSort", ParallelQuickSort::new);
+        registry.put("ParallelIntroSort", ParallelIntroSort::new);
+        registry.put("SampleSort", SampleSort::new);
+        registry.put("AdaptiveSort", AdaptiveSort::new);
+        return Collections.unmodifiableMap(registry);
+    }
+
+    public List<Result> run() throws IOException, InterruptedException {
+        List<Result> results = new ArrayList<>();
+        int total = algorithms.size() * sizes.size() * shapes.size() * forks;
+        int completed = 0;
+
+        System.out.printf("%-20s %-15s %-12s %-6s %-14s %-14s %-16s%n", "Algoritmo", "Formato", "Tamanho", "JVM", "Média (ms)", "ns/registro", "Alocação (B/op)");
+        for (String algorithm : algorithms) {
+            for (int size : sizes) {
+                for (DatasetShape shape : shapes) {
+                    for (int fork = 1; fork <= forks; fork++) {
+                        Result result = runFork(algorithm, size, shape, fork);
+                        results.add(result);
+                        completed++;
+                        if (result.error != null) {
+                            System.out.printf("%-20s %-15s %-12d %-6s falhou: %s%n", algorithm, shape.label(), size, fork + "/" + forks, result.error);
+                        } else {
+                            System.out.printf("%-20s %-15s %-12d %-6s %-14.3f %-14.2f %-16d%n", algorithm, shape.label(), size, fork + "/" + forks, result.mean(), result.nanosPerRecord(), result.allocatedBytesPerOp);
+                        }
+                    }
+                }
+            }
+            System.out.printf("Progresso: %d/%d execuções%n", completed, total);
+        }
+        return results;
+    }
+
+    private Result runFork(String algorithm, int size, DatasetShape shape, int fork) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(ManagementFactory.getRuntimeMXBean().getInputArguments());
+        command.add("-cp");
+        command.add(absoluteClassPath());
+        command.add(BenchmarkSuite.class.getName());
+        command.add(algorithm);
+        command.add(Integer.toString(size));
+        command.add(shape.label());
+        command.add(Long.toString(seed));
+        command.add(Integer.toString(warmupIterations));
+        command.add(Integer.toString(measurementIterations));
+
+        Path workDirectory = Files.createTempDirectory("benchmark_fork_");
+        String resultLine = null;
+        String lastLine = null;
+        try {
+            Process process = new ProcessBuilder(command).directory(workDirectory.toFile()).redirectErrorStream(true).start();
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    int resultStart = line.indexOf(RESULT_PREFIX);
+                    int errorStart = line.indexOf(ERROR_PREFIX);
+                    if (resultStart >= 0) {
+                        resultLine = line.substring(resultStart + RESULT_PREFIX.length());
+                    } else if (errorStart >= 0) {
+                        lastLine = line.substring(errorStart + ERROR_PREFIX.length());
+                    } else if (!line.isBlank() && lastLine == null) {
+                        lastLine = line.trim();
+                    }
+                }
+            }
+            int exitCode = process.waitFor();
+            if (resultLine != null && exitCode == 0) {
+                return Result.parse(algorithm, shape, size, fork, resultLine);
+            }
+            return Result.failed(algorithm, shape, size, fork, lastLine != null ? lastLine : "JVM encerrada com código " + exitCode);
+        } finally {
+            FileUtils.deleteDirectory(workDirectory);
+        }
+    }
+
+    private static String absoluteClassPath() {
+        List<String> entries = new ArrayList<>();
+        for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+            entries.add(new File(entry).getAbsolutePath());
+        }
+        return String.join(File.pathSeparator, entries);
+    }
+
+    public static void main(String[] args) {
+        try {
+            SortingAlgorithm algorithm = ALGORITHMS.get(args[0]).get();
+            int size = Integer.parseInt(args[1]);
+            DatasetShape shape = DatasetShape.fromLabel(args[2]);
+            long seed = Long.parseLong(args[3]);
+            int warmupIterations = Integer.parseInt(args[4]);
+            int measurementIterations = Integer.parseInt(args[5]);
+
+            System.out.println(RESULT_PREFIX + measure(algorithm, shape.generate(size, seed).records(), warmupIterations, measurementIterations));
+        } catch (Throwable e) {
+            System.out.println(ERROR_PREFIX + e);
+            System.exit(1);
+        }
+    }
+
+    private static String measure(SortingAlgorithm algorithm, long[] input, int warmupIterations, int measurementIterations) {
+        RecordStore work = new RecordStore(input.length);
+        AtomicBoolean cancelFlag = new AtomicBoolean(false);
+        long expectedChecksum = checksum(sortedCopy(input));
+
+        for (int i = 0; i < warmupIterations; i++) {
+            runIteration(algorithm, input, work, cancelFlag, expectedChecksum);
+        }
+
+        long gcCountBefore = MeasurementEngine.gcCount();
+        long gcTimeBefore = MeasurementEngine.gcTime();
+        long allocatedBefore = MeasurementEngine.allocatedBytes();
+        StringBuilder times = new StringBuilder();
+        for (int i = 0; i < measurementIterations; i++) {
+            if (i > 0) times.append(',');
+            times.append(runIteration(algorithm, input, work, cancelFlag, expectedChecksum));
+        }
+        long allocated = MeasurementEngine.allocatedBytes() - allocatedBefore;
+
+        return (allocated < 0 ? -1 : allocated / measurementIterations) + "\t" + (MeasurementEngine.gcCount() - gcCountBefore) + "\t" + (MeasurementEngine.gcTime() - gcTimeBefore) + "\t" + expectedChecksum + "\t" + times;
+    }
+
+    private static long runIteration(SortingAlgorithm algorithm, long[] input, RecordStore work, AtomicBoolean cancelFlag, long expectedChecksum) {
+        System.arraycopy(input, 0, work.records(), 0, input.length);
+        long start = System.nanoTime();
+        algorithm.sort(work, cancelFlag, NoOpStatistics.INSTANCE);
+        long elapsed = System.nanoTime() - start;
+
+        long checksum = checksum(work.records());
+        if (checksum != expectedChecksum) {
+            throw new IllegalStateException("Saída incorreta de " + algorithm.getClass().getSimpleName());
+        }
+        blackhole ^= checksum;
+        return elapsed;
+    }
+
+    private static long[] sortedCopy(long[] input) {
+        long[] copy = input.clone();
+        Arrays.sort(copy);
+        return copy;
     }
 
-    private int extractNumericPart(String data) {
-        return Integer.parseInt(data.split(":")[0]);
+    private static long checksum(long[] records) {
+        long checksum = 0;
+        for (long record : records) {
+            checksum = checksum * 31 + RecordStore.areaNumber(record);
+        }
+        return checksum;
+    }
+
+    public static void writeJson(List<Result> results, File file) throws IOException {
+        try (PrintWriter writer = new PrintWriter(new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)))) {
+            writer.println("[");
+            for (int i = 0; i < results.size(); i++) {
+                writer.print("  " + results.get(i).toJson());
+                writer.println(i < results.size() - 1 ? "," : "");
+            }
+            writer.println("]");
+        }
     }
 
-    private void saveSortedArray(String[] array) {
-        FileUtils.saveArrayToFile(array, "DualPivotQuickSort");
+    static class Result {
+        final String algorithm;
+        final DatasetShape shape;
+        final int size;
+        final int fork;
+        final double[] timesMs;
+        final long allocatedBytesPerOp;
+        final long gcCount;
+        final long gcTimeMs;
+        final long checksum;
+        final String error;
+
+        private Result(String algorithm, DatasetShape shape, int size, int fork, double[] timesMs, long allocatedBytesPerOp, long gcCount, long gcTimeMs, long checksum, String error) {
+            this.algorithm = algorithm;
+            this.shape = shape;
+            this.size = size;
+            this.fork = fork;
+            this.timesMs = timesMs;
+            this.allocatedBytesPerOp = allocatedBytesPerOp;
+            this.gcCount = gcCount;
+            this.gcTimeMs = gcTimeMs;
+            this.checksum = checksum;
+            this.error = error;
+        }
+
+        static Result parse(String algorithm, DatasetShape shape, int size, int fork, String line) {
+            String[] fields = line.split("\t");
+            String[] nanos = fields[4].split(",");
+            double[] timesMs = new double[nanos.length];
+            for (int i = 0; i < nanos.length; i++) {
+                timesMs[i] = Long.parseLong(nanos[i]) / 1_000_000.0;
+            }
+            return new Result(algorithm, shape, size, fork, timesMs, Long.parseLong(fields[0]), Long.parseLong(fields[1]), Long.parseLong(fields[2]), Long.parseLong(fields[3]), null);
+        }
+
+        static Result failed(String algorithm, DatasetShape shape, int size, int fork, String error) {
+            return new Result(algorithm, shape, size, fork, new double[0], -1, 0, 0, 0, error);
+        }
+
+        double mean() {
+            return timesMs.length == 0 ? 0 : Arrays.stream(timesMs).sum() / timesMs.length;
+        }
+
+        double standardDeviation() {
+            double mean = mean();
+            return timesMs.length > 1 ? Math.sqrt(Arrays.stream(timesMs).map(time -> (time - mean) * (time - mean)).sum() / (timesMs.length - 1)) : 0;
+        }
+
+        double nanosPerRecord() {
+            return size > 0 ? mean() * 1_000_000.0 / size : 0;
+        }
+
+        double throughput() {
+            return mean() > 0 ? size / (mean() / 1000.0) : 0;
+        }
+
+        String toJson() {
+            StringBuilder json = new StringBuilder("{");
+            json.append("\"algorithm\": \"").append(algorithm).append("\", ");
+            json.append("\"shape\": \"").append(shape.label()).append("\", ");
+            json.append("\"size\": ").append(size).append(", ");
+            json.append("\"fork\": ").append(fork).append(", ");
+            json.append("\"jvm\": \"").append(System.getProperty("java.vm.version")).append("\", ");
+            if (error != null) {
+                json.append("\"error\": \"").append(error.replace("\\", "\\\\").replace("\"", "\\\"")).append("\"}");
+                return json.toString();
+            }
+            json.append(String.format(Locale.ROOT, "\"meanMs\": %.6f, ", mean()));
+            json.append(String.format(Locale.ROOT, "\"stdDevMs\": %.6f, ", standardDeviation()));
+            json.append(String.format(Locale.ROOT, "\"minMs\": %.6f, ", Arrays.stream(timesMs).min().orElse(0)));
+            json.append(String.format(Locale.ROOT, "\"maxMs\": %.6f, ", Arrays.stream(timesMs).max().orElse(0)));
+            json.append(String.format(Locale.ROOT, "\"throughputRecordsPerSecond\": %.1f, ", throughput()));
+            json.append(String.format(Locale.ROOT, "\"nsPerRecord\": %.4f, ", nanosPerRecord()));
+            json.append("\"allocatedBytesPerOp\": ").append(allocatedBytesPerOp).append(", ");
+            json.append("\"gcCount\": ").append(gcCount).append(", ");
+            json.append("\"gcTimeMs\": ").append(gcTimeMs).append(", ");
+            json.append("\"checksum\": ").append(checksum).append(", ");
+            json.append("\"rawMs\": [");
+            for (int i = 0; i < timesMs.length; i++) {
+                if (i > 0) json.append(", ");
+                json.append(String.format(Locale.ROOT, "%.6f", timesMs[i]));
+            }
+            json.append("]}");
+            return json.toString();
+        }
     }
 }
 
+class BatchRunner {
+    private static final String USAGE = String.join(System.lineSeparator(),
+            "Uso: java ImageSortingSystem [opções]",
+            "  --input ARQUIVO          ordena os dados de um arquivo (.txt ou .bin)",
+            "  --generate N[,N...]      gera dados aleatórios com os tamanhos informados",
+            "  --seed N                 semente da geração (padrão: aleatória, registrada nos resultados)",
+            "  --shape FORMATO          " + DatasetShape.labels() + " (padrão: aleatorio)",
+            "  --algorithms A,B         algoritmos a medir (padrão: os do programa de ordenação)",
+            "  --mode MODO              sequential ou parallel (padrão: sequential)",
+            "  --warmup N               rodadas de aquecimento (padrão: " + SortingManager.DEFAULT_WARMUP_ROUNDS + ")",
+            "  --iterations N           rodadas medidas (padrão: " + SortingManager.DEFAULT_MEASURED_ROUNDS + ")",
+            "  --format FORMATO         json ou csv (padrão: json)",
+            "  --output ARQUIVO         arquivo de resultados (padrão: output_data/batch_<data>.<formato>)",
+            "  --report                 também gera os relatórios em texto",
+            "  --save-sorted            salva os dados ordenados em sorted_data",
+            "  --store ARQUIVO          histórico de resultados para comparação (padrão: " + ResultsStore.DEFAULT_FILE + ")",
+            "  --no-store               não compara nem grava no histórico",
+            "  --help                   exibe esta ajuda",
+            "Algoritmos: " + String.join(", ", BenchmarkSuite.ALGORITHMS.keySet()));
+
+    public static int run(String[] args) {
+        String inputFile = null;
+        List<Integer> sizes = new ArrayList<>();
+        long seed = DataLoader.newSeed();
+        DatasetShape shape = DatasetShape.RANDOM;
+        List<String> algorithmNames = new ArrayList<>();
+        boolean parallel = false;
+        int warmupRounds = SortingManager.DEFAULT_WARMUP_ROUNDS;
+        int measuredRounds = SortingManager.DEFAULT_MEASURED_ROUNDS;
+        String format = "json";
+        String outputFile = null;
+        boolean textReport = false;
+        boolean saveSorted = false;
+        String storeFile = ResultsStore.DEFAULT_FILE;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--input" -> inputFile = value(args, ++i);
+                    case "--generate" -> {
+                        for (String size : value(args, ++i).split(",")) sizes.add(Integer.parseInt(size.trim()));
+                    }
+                    case "--seed" -> seed = Long.parseLong(value(args, ++i));
+                    case "--shape" -> shape = DatasetShape.fromLabel(value(args, ++i));
+                    case "--algorithms" -> {
+                        for (String name : value(args, ++i).split(",")) algorithmNames.add(name.trim());
+                    }
+                    case "--mode" -> {
+                        String mode = value(args, ++i);
+                        if (!mode.equals("sequential") && !mode.equals("parallel")) throw new IllegalArgumentException("Modo desconhecido: " + mode);
+                        parallel = mode.equals("parallel");
+                    }
+                    case "--warmup" -> warmupRounds = Integer.parseInt(value(args, ++i));
+                    case "--iterations" -> measuredRounds = Integer.parseInt(value(args, ++i));
+                    case "--format" -> format = value(args, ++i).toLowerCase(Locale.ROOT);
+                    case "--output" -> outputFile = value(args, ++i);
+                    case "--report" -> textReport = true;
+                    case "--save-sorted" -> saveSorted = true;
+                    case "--store" -> storeFile = value(args, ++i);
+                    case "--no-store" -> storeFile = null;
+                    case "--help" -> {
+                        System.out.println(USAGE);
+                        return 0;
+                    }
+                    default -> throw new IllegalArgumentException("Opção desconhecida: " + args[i]);
+                }
+            }
+            if ((inputFile == null) == sizes.isEmpty()) throw new IllegalArgumentException("Informe --input ou --generate");
+            if (sizes.stream().anyMatch(size -> size <= 0)) throw new IllegalArgumentException("Os tamanhos devem ser positivos");
+            if (warmupRounds < 0 || measuredRounds <= 0) throw new IllegalArgumentException("Rodadas inválidas");
+            if (!format.equals("json") && !format.equals("csv")) throw new IllegalArgumentException("Formato desconhecido: " + format);
+            for (String name : algorithmNames) {
+                if (!BenchmarkSuite.ALGORITHMS.containsKey(name)) throw new IllegalArgumentException("Algoritmo desconhecido: " + name);
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println("Erro: " + e.getMessage());
+            System.err.println(USAGE);
+            return 2;
+        }
+
+        List<BatchResult> results = new ArrayList<>();
+        Map<Integer, String> bestAlgorithms = new HashMap<>();
+        Map<Integer, Map<String, Double>> performanceData = new HashMap<>();
+        try {
+            List<RecordStore> datasets = new ArrayList<>();
+            if (inputFile != null) {
+                datasets.add(DataLoader.loadDataFromFile(inputFile));
+            } else {
+                for (int size : sizes) datasets.add(shape.generate(size, seed));
+            }
+
+            for (RecordStore data : datasets) {
+                List<SortingAlgorithm> algorithms = new ArrayList<>();
+                if (algorithmNames.isEmpty()) {
+                    algorithms.addAll(SortingManager.defaultAlgorithms());
+                } else {
+                    for (String name : algorithmNames) algorithms.add(BenchmarkSuite.ALGORITHMS.get(name).get());
+                }
+
+                String sampleName = "Batch_" + data.size();
+                SortingManager sortingManager = new SortingManager(data, new AtomicBoolean(false), sampleName, warmupRounds, measuredRounds, algorithms);
+                sortingManager.setSaveSortedData(saveSorted);
+                if (parallel) {
+                    sortingManager.executeSortingAlgorithmsInParallel();
+                } else {
+                    sortingManager.executeSortingAlgorithms();
+                }
+
+                String datasetSpec = inputFile != null ? "arquivo:" + inputFile : "gerado:" + shape.label() + ":seed=" + seed;
+                String mode = parallel ? "parallel" : "sequential";
+                Map<String, ResultsStore.Comparison> comparisons = storeFile != null ? sortingManager.compareWithBaseline(new ResultsStore(storeFile), datasetSpec + ":" + mode) : Map.of();
+                for (Map.Entry<String, Measurement> entry : sortingManager.getMeasurements().entrySet()) {
+                    results.add(new BatchResult(entry.getKey(), datasetSpec, data.size(), mode, warmupRounds, entry.getValue(), sortingManager.getInstrumentedMeasurements().get(entry.getKey()), comparisons.get(entry.getKey())));
+                }
+
+                if (textReport) {
+                    sortingManager.savePerformanceReport();
+                    bestAlgorithms.put(data.size(), sortingManager.getBestAlgorithm());
+                    performanceData.put(data.size(), sortingManager.getPerformanceData());
+                }
+            }
+
+            if (textReport && datasets.size() > 1) {
+                ImageSortingSystem.displayScalabilityReport(inputFile != null ? "arquivo" : shape.label(), bestAlgorithms, performanceData);
+            }
+
+            File resultFile = outputFile != null ? new File(outputFile) : defaultOutputFile(format);
+            if (format.equals("csv")) {
+                writeCsv(results, resultFile);
+            } else {
+                writeJson(results, resultFile);
+            }
+            System.out.println("Resultados salvos em: " + resultFile.getAbsolutePath());
+            return 0;
+        } catch (IOException e) {
+            System.err.println("Erro: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    private static String value(String[] args, int index) {
+        if (index >= args.length) throw new IllegalArgumentException("Valor ausente para " + args[index - 1]);
+        return args[index];
+    }
+
+    private static File defaultOutputFile(String format) throws IOException {
+        File outputFolder = new File("output_data");
+        if (!outputFolder.exists() && !outputFolder.mkdir()) {
+            throw new IOException("Falha ao criar a pasta output_data.");
+        }
+        String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
+        return new File(outputFolder, "batch_" + timestamp + "." + format);
+    }
+
+    static void writeJson(List<BatchResult> results, File file) throws IOException {
+        try (PrintWriter writer = new PrintWriter(new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)))) {
+            writer.println("[");
+            for (int i = 0; i < results.size(); i++) {
+                writer.print("  " + results.get(i).toJson());
+                writer.println(i < results.size() - 1 ? "," : "");
+            }
+            writer.println("]");
+        }
+    }
+
+    static void writeCsv(List<BatchResult> results, File file) throws IOException {
+        try (PrintWriter writer = new PrintWriter(new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)))) {
+            writer.println("algorithm,dataset,size,mode,round,time_ms,ns_per_element,allocated_bytes,gc,jit,comparisons,swaps");
+            for (BatchResult result : results) {
+                for (int round = 0; round < result.measurement.size(); round++) {
+                    writer.println(String.join(",",
+                            result.algorithm,
+                            "\"" + result.dataset.replace("\"", "\"\"") + "\"",
+                            Integer.toString(result.size),
+                            result.mode,
+                            Integer.toString(round + 1),
+                            String.format(Locale.ROOT, "%.6f", result.measurement.time(round)),
+                            String.format(Locale.ROOT, "%.4f", result.nanosPerElement(result.measurement.time(round))),
+                            Long.toString(result.measurement.allocatedBytes(round)),
+                            result.measurement.hasOverlappingRounds() ? "" : Boolean.toString(result.measurement.hadGc(round)),
+                            result.measurement.hasOverlappingRounds() ? "" : Boolean.toString(result.measurement.hadJit(round)),
+                            Long.toString(result.instrumented.averageComparisons()),
+                            Long.toString(result.instrumented.averageSwaps())));
+                }
+            }
+        }
+    }
+
+    static class BatchResult {
+        final String algorithm;
+        final String dataset;
+        final int size;
+        final String mode;
+        final int warmupRounds;
+        final Measurement measurement;
+        final Measurement instrumented;
+        final ResultsStore.Comparison baseline;
+
+        BatchResult(String algorithm, String dataset, int size, String mode, int warmupRounds, Measurement measurement, Measurement instrumented, ResultsStore.Comparison baseline) {
+            this.algorithm = algorithm;
+            this.dataset = dataset;
+            this.size = size;
+            this.mode = mode;
+            this.warmupRounds = warmupRounds;
+            this.measurement = measurement;
+            this.instrumented = instrumented;
+            this.baseline = baseline;
+        }
+
+        double nanosPerElement(double timeMs) {
+            return size > 0 ? timeMs * 1_000_000.0 / size : 0;
+        }
+
+        String toJson() {
+            StringBuilder json = new StringBuilder("{");
+            json.append("\"algorithm\": \"").append(algorithm).append("\", ");
+            json.append("\"dataset\": \"").append(dataset.replace("\\", "\\\\").replace("\"", "\\\"")).append("\", ");
+            json.append("\"size\": ").append(size).append(", ");
+            json.append("\"mode\": \"").append(mode).append("\", ");
+            json.append("\"warmupRounds\": ").append(warmupRounds).append(", ");
+            json.append("\"jvm\": \"").append(System.getProperty("java.vm.version")).append("\", ");
+            json.append(String.format(Locale.ROOT, "\"meanMs\": %.6f, \"medianMs\": %.6f, \"p90Ms\": %.6f, \"p99Ms\": %.6f, \"ci95HalfWidthMs\": %.6f, ",
+                    measurement.mean(), measurement.median(), measurement.percentile(90), measurement.percentile(99), measurement.confidenceHalfWidth95()));
+            json.append(String.format(Locale.ROOT, "\"nsPerElement\": %.4f, ", nanosPerElement(measurement.mean())));
+            json.append("\"comparisons\": ").append(instrumented.averageComparisons()).append(", ");
+            json.append("\"swaps\": ").append(instrumented.averageSwaps()).append(", ");
+            json.append(String.format(Locale.ROOT, "\"instrumentedMeanMs\": %.6f, ", instrumented.mean()));
+            if (baseline != null && baseline.hasBaseline()) {
+                json.append(String.format(Locale.ROOT, "\"baseline\": {\"timestamp\": \"%s\", \"medianMs\": %.6f, \"changePercent\": %.2f, \"pValue\": %.6f, \"verdict\": \"%s\"}, ",
+                        baseline.baselineTimestamp, baseline.baselineMedian(), baseline.changePercent(), baseline.pValue(), baseline.verdict()));
+            }
+            json.append("\"iterations\": [");
+            for (int round = 0; round < measurement.size(); round++) {
+                if (round > 0) json.append(", ");
+                json.append(String.format(Locale.ROOT, "{\"round\": %d, \"timeMs\": %.6f, \"nsPerElement\": %.4f, \"allocatedBytes\": %d, \"gc\": %s, \"jit\": %s}",
+                        round + 1, measurement.time(round), nanosPerElement(measurement.time(round)), measurement.allocatedBytes(round),
+                        measurement.hasOverlappingRounds() ? "null" : measurement.hadGc(round), measurement.hasOverlappingRounds() ? "null" : measurement.hadJit(round)));
+            }
+            json.append("]}");
+            return json.toString();
+        }
+    }
+}